@@ -0,0 +1,77 @@
+package com.aymanetech.event.benchmarks.db;
+
+import com.aymanetech.event.event.application.dto.response.EventResponseDto;
+import com.aymanetech.event.event.application.dto.response.NearbyEventDto;
+import com.aymanetech.event.event.application.service.EventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranked full-text search on the GIN index over {@code search_vector} and nearby search
+ * on the GiST point index, through the service methods behind /events/search and
+ * /events/nearby.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventSearchBenchmark {
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Param({"100000", "1000000"})
+    private int events;
+
+    private BenchmarkDatabase database;
+    private EventService eventService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        database.boot();
+        database.insertEvents(events, database.insertCategories(20), database.insertUser());
+        eventService = database.bean(EventService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Page<EventResponseDto> fullTextPrefix() {
+        return eventService.searchEventsByTitle("jaz fest", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<EventResponseDto> fullTextRareTerm() {
+        return eventService.searchEventsByTitle("gnaoua poetry", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<NearbyEventDto> nearbyCity() {
+        return eventService.findEventsNearby(34.0209, -6.8416, 25, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<NearbyEventDto> nearbyRegion() {
+        return eventService.findEventsNearby(34.0209, -6.8416, 200, FIRST_PAGE);
+    }
+}
@@ -0,0 +1,70 @@
+package com.aymanetech.event.benchmarks.db;
+
+import com.aymanetech.event.event.application.dto.request.EventFacetFilter;
+import com.aymanetech.event.event.application.dto.response.FacetedEventsDto;
+import com.aymanetech.event.event.application.service.EventService;
+import com.aymanetech.event.event.domain.vo.DateBucket;
+import com.aymanetech.event.event.domain.vo.PriceBand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Faceted browsing: the filtered page plus the single GROUPING SETS query counting every
+ * facet value, with no filter and with a narrow one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FacetCountBenchmark {
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Param({"100000", "1000000"})
+    private int events;
+
+    private BenchmarkDatabase database;
+    private EventService eventService;
+    private EventFacetFilter narrowFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        database.boot();
+        var categoryIds = database.insertCategories(20);
+        database.insertEvents(events, categoryIds, database.insertUser());
+        narrowFilter = new EventFacetFilter(categoryIds.getFirst(), PriceBand.UP_TO_100, DateBucket.NEXT_30_DAYS, null, true);
+        eventService = database.bean(EventService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public FacetedEventsDto unfiltered() {
+        return eventService.browseEvents(new EventFacetFilter(null, null, null, null, null), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public FacetedEventsDto narrowed() {
+        return eventService.browseEvents(narrowFilter, FIRST_PAGE);
+    }
+}
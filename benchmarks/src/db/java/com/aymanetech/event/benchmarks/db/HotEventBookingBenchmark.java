@@ -0,0 +1,107 @@
+package com.aymanetech.event.benchmarks.db;
+
+import com.aymanetech.event.booking.application.dto.BookingRequestDto;
+import com.aymanetech.event.booking.application.dto.BookingResponseDto;
+import com.aymanetech.event.booking.application.service.BookingService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Booking throughput on one event with many buyers, admitted through the seat ledger and
+ * written behind in batches, against the same event booked the regular way with a row
+ * lock on {@code available_seats} per booking.
+ * <p>
+ * Bookings the write-behind queue turns away are counted as {@code shed} rather than
+ * failing the run; a growing count means the flusher is the bottleneck.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Threads(8)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class HotEventBookingBenchmark {
+    // large enough that no run sells out
+    private static final int SEATS = 1_000_000_000;
+
+    private BenchmarkDatabase database;
+    private BookingService bookingService;
+    private Long hotEventId;
+    private Long regularEventId;
+    private Integer buyerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        database.boot();
+        buyerId = database.insertUser();
+        var categoryId = database.insertCategories(1).getFirst();
+        hotEventId = insertEvent(categoryId, buyerId);
+        regularEventId = insertEvent(categoryId, buyerId);
+
+        // the ledger loads its events when the application starts
+        database.boot(
+                "app.booking.hot-events.enabled=true",
+                "app.booking.hot-events.event-ids=" + hotEventId,
+                "app.booking.hot-events.queue-capacity=100000",
+                "app.booking.hot-events.batch-size=500"
+        );
+        bookingService = database.bean(BookingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public BookingResponseDto hotEvent(Outcomes outcomes) {
+        try {
+            return bookingService.createBooking(new BookingRequestDto(hotEventId, buyerId, 1));
+        } catch (IllegalStateException e) {
+            outcomes.shed++;
+            return null;
+        }
+    }
+
+    @Benchmark
+    public BookingResponseDto regularEvent() {
+        return bookingService.createBooking(new BookingRequestDto(regularEventId, buyerId, 1));
+    }
+
+    private Long insertEvent(Long categoryId, Integer organizerId) {
+        return database.jdbc().queryForObject("""
+                INSERT INTO events (title, slug, description, number_of_seats, available_seats, price, date, location,
+                                    is_verified, booking_type, category_id, organizer_id)
+                VALUES ('Flash sale', 'flash-sale-' || gen_random_uuid(), 'benchmark', ?, ?, 10,
+                        LOCALTIMESTAMP + INTERVAL '30 days', 'Casablanca', true, 'AUTOMATIC', ?, ?)
+                RETURNING id
+                """, Long.class, SEATS, SEATS, categoryId, organizerId);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long shed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            shed = 0;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.aymanetech.event.benchmarks.db;
+
+import com.aymanetech.event.booking.application.dto.BookingResponseDto;
+import com.aymanetech.event.booking.application.service.BookingService;
+import com.aymanetech.event.common.application.pagination.Cursor;
+import com.aymanetech.event.common.application.pagination.CursorPage;
+import com.aymanetech.event.event.domain.vo.EventId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-event booking scrolls on the bookings table range-partitioned by event date, with
+ * the bookings spread over more and more monthly partitions. The event's own partition
+ * holds the rows; the scores show what the other partitions add to each page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PartitionedBookingsBenchmark {
+    private static final int EVENTS_PER_MONTH = 50;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000000"})
+    private int bookings;
+
+    @Param({"12", "60"})
+    private int months;
+
+    private BenchmarkDatabase database;
+    private BookingService bookingService;
+    private List<Long> eventIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        database.boot();
+        var userId = database.insertUser();
+        var categoryId = database.insertCategories(1).getFirst();
+        var jdbc = database.jdbc();
+        jdbc.queryForList("""
+                SELECT create_bookings_partition(CAST(month AS DATE))
+                FROM generate_series(date_trunc('month', LOCALTIMESTAMP) - (CAST(? AS INT) - 12) * INTERVAL '1 month',
+                                     date_trunc('month', LOCALTIMESTAMP) + INTERVAL '12 months',
+                                     INTERVAL '1 month') AS month
+                """, String.class, months);
+        eventIds = jdbc.queryForList("""
+                INSERT INTO events (title, slug, description, number_of_seats, available_seats, price, date, location,
+                                    is_verified, booking_type, category_id, organizer_id)
+                SELECT 'Partitioned ' || g, 'partitioned-' || g || '-' || gen_random_uuid(), 'benchmark',
+                       1000000, 1000000, 10,
+                       date_trunc('month', LOCALTIMESTAMP) + (12 - CAST(? AS INT) + g % CAST(? AS INT)) * INTERVAL '1 month' + INTERVAL '10 days',
+                       'Rabat', true, 'AUTOMATIC', ?, ?
+                FROM generate_series(0, CAST(? AS INT) - 1) AS g
+                RETURNING id
+                """, Long.class, months, months, categoryId, userId, months * EVENTS_PER_MONTH);
+        jdbc.update("""
+                INSERT INTO bookings (status, user_id, event_id, number_of_tickets, total_price, created_at, event_date)
+                SELECT 'APPROVED', ?, e.id, 1, 10, LOCALTIMESTAMP - g * INTERVAL '1 second', e.date
+                FROM generate_series(1, ?) AS g
+                         JOIN events e ON e.id = (CAST(? AS BIGINT[]))[1 + g % CAST(? AS INT)]
+                """, userId, bookings, eventIds.toArray(Long[]::new), eventIds.size());
+        database.analyze();
+        bookingService = database.bean(BookingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public CursorPage<BookingResponseDto> firstPage() {
+        return bookingService.findBookingsByEvent(randomEvent(), Cursor.decode(null), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<BookingResponseDto> tenPages() {
+        var eventId = randomEvent();
+        var page = bookingService.findBookingsByEvent(eventId, Cursor.decode(null), PAGE_SIZE);
+        for (int i = 1; i < 10 && page.nextCursor() != null; i++)
+            page = bookingService.findBookingsByEvent(eventId, Cursor.decode(page.nextCursor()), PAGE_SIZE);
+        return page;
+    }
+
+    private EventId randomEvent() {
+        return EventId.of(eventIds.get(ThreadLocalRandom.current().nextInt(eventIds.size())));
+    }
+}
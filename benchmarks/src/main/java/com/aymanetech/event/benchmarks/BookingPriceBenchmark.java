@@ -0,0 +1,42 @@
+package com.aymanetech.event.benchmarks;
+
+import com.aymanetech.event.booking.domain.Booking;
+import com.aymanetech.event.event.domain.entity.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Booking.setEvent}, which prices the booking with BigDecimal arithmetic on every
+ * booking created.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BookingPriceBenchmark {
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        event = Fixtures.event(1, Fixtures.category(1), Fixtures.organizer(1));
+    }
+
+    @Benchmark
+    public Booking setEvent() {
+        return new Booking()
+                .setNumberOfTickets(3)
+                .setEvent(event);
+    }
+}
@@ -0,0 +1,83 @@
+package com.aymanetech.event.benchmarks;
+
+import com.aymanetech.event.booking.domain.Booking;
+import com.aymanetech.event.booking.domain.BookingId;
+import com.aymanetech.event.event.domain.entity.Category;
+import com.aymanetech.event.event.domain.entity.Event;
+import com.aymanetech.event.event.domain.vo.BookingType;
+import com.aymanetech.event.event.domain.vo.CategoryId;
+import com.aymanetech.event.event.domain.vo.EventId;
+import com.aymanetech.event.user.domain.entity.Role;
+import com.aymanetech.event.user.domain.entity.User;
+import com.aymanetech.event.user.domain.vo.Name;
+import com.aymanetech.event.user.domain.vo.RoleId;
+import com.aymanetech.event.user.domain.vo.UserId;
+import com.aymanetech.event.user.domain.vo.UserStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached entities shaped like the ones the read paths map, without a database.
+ */
+final class Fixtures {
+    private Fixtures() {
+    }
+
+    static User organizer(int id) {
+        return new User()
+                .setId(UserId.of(id))
+                .setName(new Name("Aymane", "El Maini"))
+                .setEmail("organizer-" + id + "@evento.test")
+                .setStatus(UserStatus.ACTIVE)
+                .setRole(new Role().setId(RoleId.of(2L)).setName("ROLE_ORGANIZER"));
+    }
+
+    static Category category(long id) {
+        return new Category()
+                .setId(CategoryId.of(id))
+                .setName("Music " + id)
+                .setSlug("music-" + id)
+                .setDescription("Concerts and festivals");
+    }
+
+    static Event event(long id, Category category, User organizer) {
+        return new Event()
+                .setId(EventId.of(id))
+                .setTitle("Jazz Festival " + id)
+                .setSlug("jazz-festival-" + id)
+                .setDescription("An evening of jazz by the sea")
+                .setNumberOfSeats(500)
+                .setPrice(new BigDecimal("149.90"))
+                .setDate(LocalDateTime.of(2026, 6, 21, 20, 0))
+                .setLocation("Tétouan")
+                .setLatitude(35.5785)
+                .setLongitude(-5.3684)
+                .setBookingType(BookingType.AUTOMATIC)
+                .setCategory(category)
+                .setOrganiser(organizer);
+    }
+
+    static List<Event> events(int count) {
+        var category = category(1);
+        var organizer = organizer(1);
+        var events = new ArrayList<Event>(count);
+        for (int i = 0; i < count; i++)
+            events.add(event(i + 1, category, organizer));
+        return events;
+    }
+
+    static List<Booking> bookings(int count) {
+        var event = event(1, category(1), organizer(1));
+        var bookings = new ArrayList<Booking>(count);
+        for (int i = 0; i < count; i++)
+            bookings.add(new Booking()
+                    .setId(BookingId.of(i + 1L))
+                    .setUser(organizer(i + 2))
+                    .setNumberOfTickets(2)
+                    .setEvent(event));
+        return bookings;
+    }
+}
@@ -0,0 +1,101 @@
+package com.aymanetech.event.benchmarks;
+
+import com.aymanetech.event.booking.application.mapper.BookingMapper;
+import com.aymanetech.event.booking.application.mapper.BookingMapperImpl;
+import com.aymanetech.event.booking.domain.Booking;
+import com.aymanetech.event.common.application.mapper.IdValueObjectMapper;
+import com.aymanetech.event.common.application.mapper.IdValueObjectMapperImpl;
+import com.aymanetech.event.event.application.mapper.EventMapper;
+import com.aymanetech.event.event.application.mapper.EventMapperImpl;
+import com.aymanetech.event.event.domain.entity.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code toResponseDto} over a page of 100 entities, plus the id conversion on its own:
+ * {@link #reflectiveIds} replays the {@code getMethod("value").invoke} lookup the
+ * mappers used before {@code IdValueObject}, {@link #interfaceIds} is the current path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapperBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    private AnnotationConfigApplicationContext context;
+    private EventMapper eventMapper;
+    private BookingMapper bookingMapper;
+    private IdValueObjectMapper idMapper;
+    private List<Event> events;
+    private List<Booking> bookings;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(IdValueObjectMapperImpl.class, EventMapperImpl.class, BookingMapperImpl.class);
+        eventMapper = context.getBean(EventMapper.class);
+        bookingMapper = context.getBean(BookingMapper.class);
+        idMapper = context.getBean(IdValueObjectMapper.class);
+        events = Fixtures.events(PAGE_SIZE);
+        bookings = Fixtures.bookings(PAGE_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void eventPage(Blackhole blackhole) {
+        for (var event : events)
+            blackhole.consume(eventMapper.toResponseDto(event));
+    }
+
+    @Benchmark
+    public void bookingPage(Blackhole blackhole) {
+        for (var booking : bookings)
+            blackhole.consume(bookingMapper.toResponseDto(booking));
+    }
+
+    @Benchmark
+    public void interfaceIds(Blackhole blackhole) {
+        for (var event : events) {
+            blackhole.consume(idMapper.valueObjectToLong(event.getId()));
+            blackhole.consume(idMapper.valueObjectToLong(event.getCategory().getId()));
+            blackhole.consume(idMapper.valueObjectToLong(event.getOrganiser().getId()));
+        }
+    }
+
+    @Benchmark
+    public void reflectiveIds(Blackhole blackhole) {
+        for (var event : events) {
+            blackhole.consume(reflectiveValue(event.getId()));
+            blackhole.consume(reflectiveValue(event.getCategory().getId()));
+            blackhole.consume(reflectiveValue(event.getOrganiser().getId()));
+        }
+    }
+
+    private static Object reflectiveValue(Object vo) {
+        try {
+            return vo.getClass().getMethod("value").invoke(vo);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
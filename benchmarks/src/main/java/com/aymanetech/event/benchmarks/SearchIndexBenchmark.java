@@ -0,0 +1,73 @@
+package com.aymanetech.event.benchmarks;
+
+import com.aymanetech.event.event.application.search.TrigramIndex;
+import com.aymanetech.event.event.application.suggest.SuggestionIndex;
+import com.aymanetech.event.event.application.suggest.SuggestionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory indexes behind /events/fuzzy and /events/suggest, filled with generated
+ * titles so sizes well beyond the development database can be measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SearchIndexBenchmark {
+    private static final String[] WORDS = {"jazz", "festival", "tech", "meetup", "rabat", "tetouan", "marathon",
+            "conference", "night", "summer", "gnaoua", "cinema", "workshop", "startup", "music", "food", "art",
+            "expo", "design", "football", "theatre", "comedy", "poetry", "science"};
+
+    @Param({"10000", "100000", "1000000"})
+    private int titles;
+
+    private TrigramIndex trigramIndex;
+    private SuggestionIndex suggestionIndex;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        trigramIndex = new TrigramIndex(0.3);
+        var entries = new ArrayList<SuggestionIndex.Entry>(titles);
+        for (long id = 1; id <= titles; id++) {
+            var title = title(random) + " " + id;
+            trigramIndex.put(id, title);
+            entries.add(new SuggestionIndex.Entry(SuggestionType.EVENT, id, title, random.nextInt(10_000)));
+        }
+        suggestionIndex = SuggestionIndex.build(entries);
+    }
+
+    @Benchmark
+    public List<TrigramIndex.Match> fuzzyTypo() {
+        return trigramIndex.search("jaz festivl", 10);
+    }
+
+    @Benchmark
+    public List<SuggestionIndex.Entry> suggestPrefix() {
+        return suggestionIndex.suggest("fest", 10);
+    }
+
+    private static String title(Random random) {
+        var words = new StringBuilder();
+        for (int i = 0; i < 3; i++)
+            words.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        return words.toString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.aymanetech.event.benchmarks;
+
+import com.aymanetech.event.common.application.service.DefaultSlugService;
+import com.aymanetech.event.common.application.service.SlugAllocator;
+import com.aymanetech.event.common.repository.SlugRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slug generation against in-memory stand-ins for the slug_counters upsert and the
+ * existsBySlug query. Every stand-in call burns the same fixed amount of CPU in place of
+ * a database round trip, so {@link #allocate} and {@link #probeLoop} (the loop the
+ * allocator replaced) compare how many round trips a slug costs as the number of
+ * existing duplicates grows, not real query latency.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SlugBenchmark {
+    private static final String TITLE = "Tech Meetup Tétouan";
+    private static final String BASE = "tech-meetup-tetouan";
+    private static final long ROUND_TRIP_TOKENS = 2_000;
+
+    @Param({"0", "10", "100", "1000"})
+    private int duplicates;
+
+    private DefaultSlugService slugService;
+    private SlugAllocator allocator;
+    private TakenSlugs takenSlugs;
+
+    @Setup
+    public void setUp() {
+        takenSlugs = new TakenSlugs();
+        var counters = new SuffixCounters();
+        if (duplicates > 0) {
+            takenSlugs.slugs.add(BASE);
+            for (int i = 1; i < duplicates; i++)
+                takenSlugs.slugs.add(BASE + "-" + i);
+            // what the migration seeds from the existing slugs
+            counters.lastSuffixes.put("events/" + BASE, duplicates - 1);
+        }
+        slugService = new DefaultSlugService(counters);
+        allocator = slugService.allocatorFor("events", takenSlugs);
+    }
+
+    @Benchmark
+    public String toSlug() {
+        return slugService.toSlug(TITLE);
+    }
+
+    @Benchmark
+    public String allocate() {
+        return allocator.allocate(TITLE);
+    }
+
+    @Benchmark
+    public String probeLoop() {
+        var slug = slugService.toSlug(TITLE);
+        var uniqueSlug = slug;
+        int counter = 1;
+        while (takenSlugs.existsBySlug(uniqueSlug))
+            uniqueSlug = slug + "-" + counter++;
+        return uniqueSlug;
+    }
+
+    private static final class SuffixCounters extends JdbcTemplate {
+        private final Map<String, Integer> lastSuffixes = new HashMap<>();
+
+        @Override
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            Blackhole.consumeCPU(ROUND_TRIP_TOKENS);
+            var next = lastSuffixes.merge(args[0] + "/" + args[1], 0, (last, ignored) -> last + 1);
+            return requiredType.cast(next);
+        }
+    }
+
+    private static final class TakenSlugs implements SlugRepository<Object> {
+        private final Set<String> slugs = new HashSet<>();
+
+        @Override
+        public boolean existsBySlug(String slug) {
+            Blackhole.consumeCPU(ROUND_TRIP_TOKENS);
+            return slugs.contains(slug);
+        }
+
+        @Override
+        public Optional<Object> findBySlug(String slug) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.aymanetech.event.benchmarks;
+
+import com.aymanetech.event.security.JwtConfigProperties;
+import com.aymanetech.event.security.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing a token at login and decoding it on every authenticated request, with the
+ * HS256 setup of application.yml.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TokenBenchmark {
+    private TokenService tokenService;
+    private JwtDecoder jwtDecoder;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        var properties = new JwtConfigProperties("benchmark-secret-key-of-32-bytes!", 3600, "HS256");
+        tokenService = new TokenService(properties);
+        jwtDecoder = NimbusJwtDecoder.withSecretKey(properties.getSecretKey()).build();
+        var user = Fixtures.organizer(1);
+        authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        token = tokenService.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(authentication);
+    }
+
+    @Benchmark
+    public Jwt decodeToken() {
+        return jwtDecoder.decode(token);
+    }
+}
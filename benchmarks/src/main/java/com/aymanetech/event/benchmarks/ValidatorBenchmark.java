@@ -0,0 +1,90 @@
+package com.aymanetech.event.benchmarks;
+
+import com.aymanetech.event.booking.application.dto.BookingRequestDto;
+import com.aymanetech.event.common.application.validation.ReferenceExists;
+import com.aymanetech.event.common.application.validation.UniqueField;
+import com.aymanetech.event.common.application.validation.validator.ReferenceExistsValidator;
+import com.aymanetech.event.common.application.validation.validator.UniqueFieldValidator;
+import com.aymanetech.event.event.application.dto.request.CategoryRequestDto;
+import com.aymanetech.event.event.domain.entity.Event;
+import com.aymanetech.event.event.domain.vo.EventId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead the constraint validators add on top of their query. The EntityManager is a
+ * stub answering instantly, so the scores are what the validator itself costs per call;
+ * {@link #legacyReferenceExists} replays the formatted query and reflective id
+ * construction the validator used to do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValidatorBenchmark {
+    private static final Long EVENT_ID = 42L;
+
+    private EntityManager entityManager;
+    private ReferenceExistsValidator referenceExistsValidator;
+    private UniqueFieldValidator uniqueFieldValidator;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        entityManager = stubEntityManager();
+        referenceExistsValidator = new ReferenceExistsValidator(entityManager);
+        referenceExistsValidator.initialize(BookingRequestDto.class.getDeclaredField("eventId").getAnnotation(ReferenceExists.class));
+        uniqueFieldValidator = new UniqueFieldValidator(entityManager);
+        uniqueFieldValidator.initialize(CategoryRequestDto.class.getDeclaredField("name").getAnnotation(UniqueField.class));
+    }
+
+    @Benchmark
+    public boolean referenceExists() {
+        return referenceExistsValidator.isValid(EVENT_ID, null);
+    }
+
+    @Benchmark
+    public boolean legacyReferenceExists() throws ReflectiveOperationException {
+        var query = String.format("SELECT COUNT(e) FROM %s e WHERE e.id = :value", Event.class.getSimpleName());
+        var id = EventId.class.getConstructor(Long.class).newInstance(EVENT_ID);
+        return entityManager.createQuery(query, Long.class)
+                .setParameter("value", id)
+                .getSingleResult() > 0;
+    }
+
+    @Benchmark
+    public boolean uniqueField() {
+        return uniqueFieldValidator.isValid("Music", null);
+    }
+
+    private static EntityManager stubEntityManager() {
+        var query = (TypedQuery<?>) Proxy.newProxyInstance(TypedQuery.class.getClassLoader(), new Class<?>[]{TypedQuery.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getResultList" -> List.of();
+                    case "getSingleResult" -> 1L;
+                    default -> proxy;
+                });
+        var event = new Event();
+        return (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(), new Class<?>[]{EntityManager.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "find" -> event;
+                    case "createQuery" -> query;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
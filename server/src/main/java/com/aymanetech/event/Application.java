@@ -1,12 +1,23 @@
 package com.aymanetech.event;
 
+import com.aymanetech.event.booking.application.admission.AdmissionProperties;
+import com.aymanetech.event.booking.application.hold.HoldProperties;
+import com.aymanetech.event.booking.application.idempotency.IdempotencyProperties;
+import com.aymanetech.event.booking.application.ledger.HotEventProperties;
+import com.aymanetech.event.booking.application.partition.BookingPartitionProperties;
+import com.aymanetech.event.event.application.cache.EventCacheProperties;
+import com.aymanetech.event.event.application.cache.SlugCacheProperties;
 import com.aymanetech.event.security.JwtConfigProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties(JwtConfigProperties.class)
+@EnableScheduling
+@EnableConfigurationProperties({JwtConfigProperties.class, HotEventProperties.class, HoldProperties.class, AdmissionProperties.class,
+        IdempotencyProperties.class, BookingPartitionProperties.class, EventCacheProperties.class,
+        SlugCacheProperties.class})
 public class Application {
 
     public static void main(String[] args) {
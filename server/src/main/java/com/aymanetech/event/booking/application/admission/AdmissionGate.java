@@ -0,0 +1,107 @@
+package com.aymanetech.event.booking.application.admission;
+
+import com.aymanetech.event.event.domain.vo.EventId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Virtual waiting room in front of the booking endpoints. Requests for the same event are
+ * let through at {@link AdmissionProperties#permitsPerSecond()}, so a flash sale queues
+ * here instead of in the connection pool where it would starve every other endpoint.
+ * <p>
+ * No request thread is held for a turn. A request is admitted only when a slot is free
+ * now; otherwise it is answered straight away with a queue token that keeps its turn,
+ * and a full room sheds the request without one.
+ */
+@Component
+public class AdmissionGate {
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<EventId, Room> rooms = new ConcurrentHashMap<>();
+    private final long intervalNanos;
+    private final Counter admitted;
+    private final Counter rejected;
+
+    public AdmissionGate(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / properties.permitsPerSecond());
+        this.admitted = Counter.builder("booking.admission.admitted")
+                .description("Booking requests let through the waiting room")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("booking.admission.rejected")
+                .description("Booking requests answered with 429")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Lets the caller through when its turn has come, and never waits for it: a caller
+     * whose turn is still ahead gets a queue token keeping that turn.
+     *
+     * @param queueToken token handed out by an earlier rejection, or {@code null}
+     * @throws AdmissionRejectedException when the caller has to come back later
+     */
+    public void admit(EventId eventId, String queueToken) {
+        if (!properties.enabled())
+            return;
+
+        var now = System.nanoTime();
+        var room = rooms.computeIfAbsent(eventId, id -> openRoom(id, now)).waitingRoom();
+        var slot = queueToken == null ? null : room.redeemToken(queueToken);
+        if (slot == null) {
+            if (!room.enter())
+                throw reject(eventId, room.drainTime(), null);
+            slot = room.claimSlot(now);
+        }
+
+        var wait = slot - now;
+        if (wait > 0) {
+            var token = queueToken != null ? queueToken : UUID.randomUUID().toString();
+            room.issueToken(token, slot);
+            throw reject(eventId, wait, token);
+        }
+        room.leave();
+        admitted.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.admission.sweep-interval}")
+    public void sweep() {
+        var now = System.nanoTime();
+        var graceNanos = properties.tokenGrace().toNanos();
+        rooms.forEach((eventId, room) -> {
+            room.waitingRoom().expireTokens(now, graceNanos);
+            if (room.waitingRoom().isIdle(now) && rooms.remove(eventId, room))
+                meterRegistry.remove(room.depthGauge());
+        });
+    }
+
+    private Room openRoom(EventId eventId, long now) {
+        var waitingRoom = new WaitingRoom(intervalNanos, properties.waitingRoomSize(), now);
+        var depthGauge = Gauge.builder("booking.admission.queue.depth", waitingRoom, WaitingRoom::depth)
+                .description("Booking requests waiting for, or holding a token for, their turn")
+                .tag("event", String.valueOf(eventId.value()))
+                .register(meterRegistry);
+        return new Room(waitingRoom, depthGauge);
+    }
+
+    private AdmissionRejectedException reject(EventId eventId, long retryAfterNanos, String queueToken) {
+        rejected.increment();
+        return new AdmissionRejectedException(
+                "Too many booking requests for event " + eventId.value() + ", try again later",
+                Duration.ofNanos(retryAfterNanos),
+                queueToken
+        );
+    }
+
+    private record Room(WaitingRoom waitingRoom, Gauge depthGauge) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.aymanetech.event.booking.application.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the booking waiting room. Each event admits {@code permitsPerSecond}
+ * booking requests; up to {@code waitingRoomSize} requests may queue for it. A request
+ * whose turn has not come yet gets a queue token valid for {@code tokenGrace} after its
+ * turn. Idle rooms and stale tokens are swept every {@code sweepInterval}.
+ */
+@ConfigurationProperties("app.booking.admission")
+public record AdmissionProperties(
+        boolean enabled,
+        double permitsPerSecond,
+        int waitingRoomSize,
+        Duration tokenGrace,
+        Duration sweepInterval
+) {
+}
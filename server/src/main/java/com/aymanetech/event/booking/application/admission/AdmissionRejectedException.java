@@ -0,0 +1,17 @@
+package com.aymanetech.event.booking.application.admission;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+    private final Duration retryAfter;
+    private final String queueToken;
+
+    public AdmissionRejectedException(String message, Duration retryAfter, String queueToken) {
+        super(message);
+        this.retryAfter = retryAfter;
+        this.queueToken = queueToken;
+    }
+}
@@ -0,0 +1,75 @@
+package com.aymanetech.event.booking.application.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Waiting room of a single event. Admission slots are handed out one {@code interval}
+ * apart; {@code depth} counts the outstanding queue tokens plus the requests being
+ * admitted, and is what bounds the room.
+ */
+final class WaitingRoom {
+    private final long intervalNanos;
+    private final int capacity;
+    private final AtomicInteger depth = new AtomicInteger();
+    private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+    private long nextSlot;
+
+    WaitingRoom(long intervalNanos, int capacity, long now) {
+        this.intervalNanos = intervalNanos;
+        this.capacity = capacity;
+        this.nextSlot = now;
+    }
+
+    boolean enter() {
+        if (depth.incrementAndGet() <= capacity)
+            return true;
+        depth.decrementAndGet();
+        return false;
+    }
+
+    void leave() {
+        depth.decrementAndGet();
+    }
+
+    int depth() {
+        return depth.get();
+    }
+
+    /**
+     * Time it takes to admit everyone currently in the room.
+     */
+    long drainTime() {
+        return depth.get() * intervalNanos;
+    }
+
+    synchronized long claimSlot(long now) {
+        var slot = nextSlot - now > 0 ? nextSlot : now;
+        nextSlot = slot + intervalNanos;
+        return slot;
+    }
+
+    synchronized boolean isIdle(long now) {
+        return depth.get() == 0 && nextSlot - now <= 0;
+    }
+
+    void issueToken(String token, long slot) {
+        tokens.put(token, slot);
+    }
+
+    /**
+     * Takes back a previously issued token, returning its slot or {@code null} when the token is unknown.
+     * The caller stays counted in the room until it calls {@link #leave()}.
+     */
+    Long redeemToken(String token) {
+        return tokens.remove(token);
+    }
+
+    void expireTokens(long now, long graceNanos) {
+        tokens.forEach((token, slot) -> {
+            if (now - slot > graceNanos && tokens.remove(token, slot))
+                depth.decrementAndGet();
+        });
+    }
+}
@@ -6,6 +6,7 @@ import com.aymanetech.event.user.application.dto.nested.NestedUser;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public record BookingResponseDto(
         Long id,
@@ -14,6 +15,7 @@ public record BookingResponseDto(
         BookingStatus status,
         Integer numberOfTickets,
         BigDecimal totalPrice,
-        LocalDateTime bookingDate
+        LocalDateTime bookingDate,
+        UUID reference
 ) {
 }
\ No newline at end of file
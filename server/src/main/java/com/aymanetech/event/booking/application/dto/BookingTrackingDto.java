@@ -0,0 +1,18 @@
+package com.aymanetech.event.booking.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Where a hot event booking answered with 202 stands: still queued, written (with the
+ * booking), or dropped (with the reason).
+ */
+public record BookingTrackingDto(
+        UUID reference,
+        State state,
+        BookingResponseDto booking,
+        String reason
+) {
+    public enum State {
+        QUEUED, WRITTEN, DROPPED
+    }
+}
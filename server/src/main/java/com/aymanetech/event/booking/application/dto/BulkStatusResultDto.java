@@ -0,0 +1,12 @@
+package com.aymanetech.event.booking.application.dto;
+
+import com.aymanetech.event.booking.domain.BookingStatus;
+
+import java.util.List;
+
+public record BulkStatusResultDto(
+        BookingStatus status,
+        List<Long> updatedIds,
+        List<Long> skippedIds
+) {
+}
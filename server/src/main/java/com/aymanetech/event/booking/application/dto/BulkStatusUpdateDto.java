@@ -0,0 +1,26 @@
+package com.aymanetech.event.booking.application.dto;
+
+import com.aymanetech.event.booking.domain.BookingStatus;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Moves PENDING bookings of MANUAL events to {@code status}. Targets either the given
+ * {@code bookingIds}, or the oldest pending bookings of {@code eventId}, at most {@code limit} of them.
+ */
+public record BulkStatusUpdateDto(
+        @NotNull
+        BookingStatus status,
+
+        @Size(max = 1000)
+        List<Long> bookingIds,
+
+        Long eventId,
+
+        @Min(1)
+        Integer limit
+) {
+}
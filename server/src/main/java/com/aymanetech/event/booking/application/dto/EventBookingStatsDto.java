@@ -0,0 +1,11 @@
+package com.aymanetech.event.booking.application.dto;
+
+import java.math.BigDecimal;
+
+public record EventBookingStatsDto(
+        Long eventId,
+        long ticketsSold,
+        BigDecimal revenue,
+        long pendingBookings
+) {
+}
@@ -0,0 +1,9 @@
+package com.aymanetech.event.booking.application.dto;
+
+public record WaitlistPositionDto(
+        Long eventId,
+        Integer userId,
+        Integer numberOfTickets,
+        long position
+) {
+}
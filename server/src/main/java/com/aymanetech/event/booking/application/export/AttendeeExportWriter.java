@@ -0,0 +1,68 @@
+package com.aymanetech.event.booking.application.export;
+
+import com.aymanetech.event.booking.domain.Attendee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Writes attendees one row at a time, so memory use does not depend on the size of the event.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendeeExportWriter {
+    private static final String CSV_HEADER =
+            "booking_id,user_id,first_name,last_name,email,status,number_of_tickets,total_price,booked_at";
+
+    private final ObjectMapper objectMapper;
+
+    public void write(Stream<Attendee> attendees, ExportFormat format, OutputStream out) {
+        try {
+            var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (format == ExportFormat.CSV)
+                writer.write(CSV_HEADER + "\n");
+            for (var iterator = attendees.iterator(); iterator.hasNext(); ) {
+                var attendee = iterator.next();
+                if (format == ExportFormat.CSV)
+                    writeCsv(attendee, writer);
+                else
+                    writer.write(objectMapper.writeValueAsString(attendee));
+                writer.write('\n');
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write attendee export", e);
+        }
+    }
+
+    private static void writeCsv(Attendee attendee, Writer writer) throws IOException {
+        writer.write(String.join(",",
+                String.valueOf(attendee.bookingId()),
+                String.valueOf(attendee.userId()),
+                escape(attendee.firstName()),
+                escape(attendee.lastName()),
+                escape(attendee.email()),
+                String.valueOf(attendee.status()),
+                String.valueOf(attendee.numberOfTickets()),
+                attendee.totalPrice() == null ? "" : attendee.totalPrice().toPlainString(),
+                attendee.bookedAt() == null ? "" : attendee.bookedAt().toString()
+        ));
+    }
+
+    private static String escape(String value) {
+        if (value == null)
+            return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
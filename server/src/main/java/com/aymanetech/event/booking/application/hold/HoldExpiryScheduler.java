@@ -0,0 +1,61 @@
+package com.aymanetech.event.booking.application.hold;
+
+import com.aymanetech.event.booking.application.service.BookingService;
+import com.aymanetech.event.booking.domain.BookingRepository;
+import com.aymanetech.event.booking.domain.BookingStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Drives the {@link HoldExpiryWheel}: reloads the open holds on startup and, on every tick,
+ * gives the seats of the holds that ran out back to their event.
+ */
+@Slf4j
+@Component
+public class HoldExpiryScheduler {
+    private final HoldExpiryWheel wheel;
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final Counter expirations;
+
+    public HoldExpiryScheduler(HoldExpiryWheel wheel, BookingService bookingService, BookingRepository bookingRepository, MeterRegistry meterRegistry) {
+        this.wheel = wheel;
+        this.bookingService = bookingService;
+        this.bookingRepository = bookingRepository;
+        this.expirations = Counter.builder("booking.holds.expired")
+                .description("Seat holds released because their TTL ran out")
+                .register(meterRegistry);
+        Gauge.builder("booking.holds.active", wheel, HoldExpiryWheel::activeHolds)
+                .description("Seat holds waiting for confirmation")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadHolds() {
+        bookingRepository.findAllHolds(BookingStatus.HELD)
+                .forEach(hold -> wheel.schedule(hold.bookingId(), hold.expiresAt()));
+    }
+
+    @Scheduled(fixedRateString = "${app.booking.holds.tick-duration}")
+    public void tick() {
+        var now = Instant.now();
+        var expired = wheel.advance(now);
+        if (expired.isEmpty())
+            return;
+
+        try {
+            expirations.increment(bookingService.releaseExpiredHolds(expired));
+        } catch (RuntimeException e) {
+            log.error("Failed to release {} expired holds, retrying on next tick", expired.size(), e);
+            expired.forEach(bookingId -> wheel.schedule(bookingId, now));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.aymanetech.event.booking.application.hold;
+
+import com.aymanetech.event.booking.domain.BookingId;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hashed timing wheel holding the expiry of every active seat hold.
+ * Scheduling and cancelling are O(1); each tick only looks at the bucket it lands on,
+ * so the cost of expiring holds never depends on the size of the bookings table.
+ * Deadlines further away than one revolution simply stay in their bucket until due.
+ */
+@Component
+public class HoldExpiryWheel {
+    private final long tickMillis;
+    private final int mask;
+    private final List<Queue<Timeout>> buckets;
+    private final Map<BookingId, Timeout> timeouts = new ConcurrentHashMap<>();
+    private volatile long currentTick;
+
+    public HoldExpiryWheel(HoldProperties properties) {
+        this.tickMillis = properties.tickDuration().toMillis();
+        int size = Integer.highestOneBit(Math.max(properties.wheelSize() - 1, 1)) << 1;
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            buckets.add(new ConcurrentLinkedQueue<>());
+        this.currentTick = Math.floorDiv(Instant.now().toEpochMilli(), tickMillis);
+    }
+
+    public void schedule(BookingId bookingId, Instant expiresAt) {
+        var timeout = new Timeout(bookingId, Math.max(toTick(expiresAt), currentTick + 1));
+        timeouts.put(bookingId, timeout);
+        buckets.get((int) (timeout.deadline() & mask)).add(timeout);
+    }
+
+    public void cancel(BookingId bookingId) {
+        timeouts.remove(bookingId);
+    }
+
+    public int activeHolds() {
+        return timeouts.size();
+    }
+
+    /**
+     * Moves the wheel up to {@code now} and returns the holds whose deadline has passed.
+     */
+    public synchronized List<BookingId> advance(Instant now) {
+        var expired = new ArrayList<BookingId>();
+        long target = Math.floorDiv(now.toEpochMilli(), tickMillis);
+        while (currentTick < target) {
+            long tick = ++currentTick;
+            var iterator = buckets.get((int) (tick & mask)).iterator();
+            while (iterator.hasNext()) {
+                var timeout = iterator.next();
+                if (timeouts.get(timeout.bookingId()) != timeout) {
+                    iterator.remove();
+                } else if (timeout.deadline() <= tick) {
+                    iterator.remove();
+                    if (timeouts.remove(timeout.bookingId(), timeout))
+                        expired.add(timeout.bookingId());
+                }
+            }
+        }
+        return expired;
+    }
+
+    private long toTick(Instant instant) {
+        return Math.ceilDiv(instant.toEpochMilli(), tickMillis);
+    }
+
+    private record Timeout(BookingId bookingId, long deadline) {
+    }
+}
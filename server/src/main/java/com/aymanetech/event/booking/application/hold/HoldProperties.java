@@ -0,0 +1,18 @@
+package com.aymanetech.event.booking.application.hold;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of temporary seat holds. A hold lives for {@code ttl}; expiries are
+ * tracked by a {@link HoldExpiryWheel} of {@code wheelSize} buckets, each
+ * {@code tickDuration} wide.
+ */
+@ConfigurationProperties("app.booking.holds")
+public record HoldProperties(
+        Duration ttl,
+        Duration tickDuration,
+        int wheelSize
+) {
+}
@@ -0,0 +1,19 @@
+package com.aymanetech.event.booking.application.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of booking idempotency keys. Up to {@code cacheSize} recent responses are kept
+ * in memory for {@code cacheTtl}; the key table remembers them for {@code retention} and
+ * is purged of older keys on {@code purgeCron}.
+ */
+@ConfigurationProperties("app.booking.idempotency")
+public record IdempotencyProperties(
+        int cacheSize,
+        Duration cacheTtl,
+        Duration retention,
+        String purgeCron
+) {
+}
@@ -0,0 +1,137 @@
+package com.aymanetech.event.booking.application.idempotency;
+
+import com.aymanetech.event.booking.application.dto.BookingRequestDto;
+import com.aymanetech.event.booking.application.dto.BookingResponseDto;
+import com.aymanetech.event.booking.application.service.BookingService;
+import com.aymanetech.event.booking.domain.IdempotencyKey;
+import com.aymanetech.event.booking.domain.IdempotencyRecordRepository;
+import com.aymanetech.event.common.exception.BusinessValidationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs {@link BookingService#createBooking} at most once per {@code Idempotency-Key} of a
+ * user; keys are scoped to the user booking, so clients cannot collide on a key string.
+ * <p>
+ * Recent responses are answered from a bounded in-memory cache, duplicates of a request
+ * still in flight on this node wait for its outcome, and everything else goes through the
+ * key table, whose insert also makes a duplicate on another node wait for the first
+ * transaction to finish. Failed requests leave no trace, so they can be retried with the
+ * same key.
+ */
+@Slf4j
+@Component
+public class IdempotentBookingHandler {
+    private final BookingService bookingService;
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final Cache<IdempotencyKey, StoredResponse> responses;
+    private final Map<IdempotencyKey, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotentBookingHandler(BookingService bookingService, IdempotencyRecordRepository repository, TransactionTemplate transactionTemplate, ObjectMapper objectMapper, IdempotencyProperties properties) {
+        this.bookingService = bookingService;
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.cacheSize())
+                .expireAfterWrite(properties.cacheTtl())
+                .build();
+    }
+
+    public BookingResponseDto createBooking(String idempotencyKey, BookingRequestDto request) {
+        var key = IdempotencyKey.of(request.userId(), idempotencyKey);
+        var fingerprint = fingerprint(request);
+        var cached = responses.getIfPresent(key);
+        if (cached != null)
+            return cached.replay(fingerprint);
+
+        var execution = new CompletableFuture<StoredResponse>();
+        var running = inFlight.putIfAbsent(key, execution);
+        if (running != null)
+            return await(running).replay(fingerprint);
+
+        try {
+            var stored = transactionTemplate.execute(status -> execute(key, fingerprint, request));
+            responses.put(key, stored);
+            execution.complete(stored);
+            return stored.replay(fingerprint);
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    @Scheduled(cron = "${app.booking.idempotency.purge-cron}")
+    public void purgeExpiredKeys() {
+        var purged = transactionTemplate.execute(status ->
+                repository.deleteCreatedBefore(Instant.now().minus(properties.retention())));
+        log.info("Purged {} expired idempotency keys", purged);
+    }
+
+    private StoredResponse execute(IdempotencyKey key, String fingerprint, BookingRequestDto request) {
+        if (repository.claim(key.userId(), key.key(), fingerprint) == 0)
+            return repository.findById(key)
+                    .map(record -> new StoredResponse(record.getRequestFingerprint(), read(record.getResponse())))
+                    .orElseThrow(() -> new IllegalStateException("Idempotency key " + key.key() + " of user " + key.userId() + " vanished"));
+
+        var response = bookingService.createBooking(request);
+        repository.storeResponse(key.userId(), key.key(), write(response));
+        return new StoredResponse(fingerprint, response);
+    }
+
+    private static StoredResponse await(CompletableFuture<StoredResponse> execution) {
+        try {
+            return execution.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    private static String fingerprint(BookingRequestDto request) {
+        return request.eventId() + ":" + request.userId() + ":" + request.numberOfTickets();
+    }
+
+    private String write(BookingResponseDto response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize booking response", e);
+        }
+    }
+
+    private BookingResponseDto read(String response) {
+        try {
+            return objectMapper.readValue(response, BookingResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot deserialize stored booking response", e);
+        }
+    }
+
+    private record StoredResponse(String fingerprint, BookingResponseDto response) {
+        BookingResponseDto replay(String requestFingerprint) {
+            if (!fingerprint.equals(requestFingerprint))
+                throw new BusinessValidationException("Idempotency-Key was already used for a different booking request");
+            return response;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.aymanetech.event.booking.application.ledger;
+
+import com.aymanetech.event.booking.application.service.BookingStatsService;
+import com.aymanetech.event.booking.domain.Booking;
+import com.aymanetech.event.booking.domain.BookingRepository;
+import com.aymanetech.event.event.application.service.EventService;
+import com.aymanetech.event.event.application.service.SeatInventoryService;
+import com.aymanetech.event.event.domain.vo.EventId;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingInt;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Buffers bookings admitted by the {@link SeatLedger} and inserts them in batches.
+ * A failing batch is retried row by row so one bad booking only gives its own seats back.
+ * <p>
+ * Writes are at most once: a booking that still fails on its own is dropped and recorded
+ * under its reference, so the client that was answered 202 learns about it. The event is
+ * read when the batch is written, so price and date are the ones in force at that time.
+ */
+@Slf4j
+@Component
+public class BookingWriteBehind {
+    private final BookingRepository repository;
+    private final EventService eventService;
+    private final SeatInventoryService seatInventoryService;
+    private final SeatLedger seatLedger;
+    private final BookingStatsService bookingStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final HotEventProperties properties;
+    private final BlockingQueue<PendingBooking> queue;
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    public BookingWriteBehind(BookingRepository repository, EventService eventService, SeatInventoryService seatInventoryService, SeatLedger seatLedger, BookingStatsService bookingStatsService, TransactionTemplate transactionTemplate, HotEventProperties properties) {
+        this.repository = repository;
+        this.eventService = eventService;
+        this.seatInventoryService = seatInventoryService;
+        this.seatLedger = seatLedger;
+        this.bookingStatsService = bookingStatsService;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+    }
+
+    /**
+     * Queues a booking of the given event. The booking must carry a reference.
+     */
+    public boolean enqueue(EventId eventId, Booking booking) {
+        var reference = Objects.requireNonNull(booking.getReference());
+        pending.add(reference);
+        if (queue.offer(new PendingBooking(eventId, booking)))
+            return true;
+        pending.remove(reference);
+        return false;
+    }
+
+    /**
+     * Whether the booking with this reference is queued and neither written nor dropped yet.
+     */
+    public boolean isPending(UUID reference) {
+        return pending.contains(reference);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.booking.hot-events.flush-interval}")
+    public void flush() {
+        var batch = new ArrayList<PendingBooking>(properties.batchSize());
+        while (queue.drainTo(batch, properties.batchSize()) > 0) {
+            persist(batch);
+            batch.clear();
+        }
+    }
+
+    private void persist(List<PendingBooking> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+            batch.forEach(this::settle);
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} hot event bookings failed, retrying one by one", batch.size(), e);
+            batch.forEach(this::persistOne);
+        }
+    }
+
+    private void persistOne(PendingBooking pendingBooking) {
+        pendingBooking.booking().setId(null);
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(List.of(pendingBooking)));
+        } catch (RuntimeException e) {
+            drop(pendingBooking, e);
+        }
+        settle(pendingBooking);
+    }
+
+    private void drop(PendingBooking pendingBooking, RuntimeException cause) {
+        var booking = pendingBooking.booking();
+        log.error("Dropping hot event booking {} of user {} for event {}",
+                booking.getReference(), booking.getUser().getId(), pendingBooking.eventId(), cause);
+        seatLedger.release(pendingBooking.eventId(), booking.getNumberOfTickets());
+        var reason = NestedExceptionUtils.getMostSpecificCause(cause).getMessage();
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.recordDropped(
+                    booking.getReference(),
+                    pendingBooking.eventId().value(),
+                    booking.getUser().getId().value(),
+                    booking.getNumberOfTickets(),
+                    reason == null ? cause.getClass().getSimpleName() : reason
+            ));
+        } catch (RuntimeException e) {
+            log.error("Could not record dropped hot event booking {}", booking.getReference(), e);
+        }
+    }
+
+    private void settle(PendingBooking pendingBooking) {
+        pending.remove(pendingBooking.booking().getReference());
+    }
+
+    private void insert(List<PendingBooking> batch) {
+        var events = batch.stream()
+                .map(PendingBooking::eventId)
+                .distinct()
+                .collect(toMap(id -> id, eventService::findEventEntityById));
+        batch.forEach(pendingBooking -> pendingBooking.booking().setEvent(events.get(pendingBooking.eventId())));
+        batch.stream()
+                .collect(groupingBy(PendingBooking::eventId, summingInt(pendingBooking -> pendingBooking.booking().getNumberOfTickets())))
+                .forEach(seatInventoryService::reserveSeats);
+        var bookings = batch.stream().map(PendingBooking::booking).toList();
+        repository.saveAll(bookings);
+        bookingStatsService.recordCreated(bookings);
+    }
+
+    private record PendingBooking(EventId eventId, Booking booking) {
+    }
+}
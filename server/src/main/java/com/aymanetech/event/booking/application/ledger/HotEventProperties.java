@@ -0,0 +1,21 @@
+package com.aymanetech.event.booking.application.ledger;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Settings of the hot event mode. Events listed in {@code eventIds} are admitted
+ * against the in-memory {@link SeatLedger} and their bookings are written behind
+ * in batches of {@code batchSize} every {@code flushInterval}.
+ */
+@ConfigurationProperties("app.booking.hot-events")
+public record HotEventProperties(
+        boolean enabled,
+        Set<Long> eventIds,
+        int batchSize,
+        int queueCapacity,
+        Duration flushInterval
+) {
+}
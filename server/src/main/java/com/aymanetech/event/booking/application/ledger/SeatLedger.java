@@ -0,0 +1,152 @@
+package com.aymanetech.event.booking.application.ledger;
+
+import com.aymanetech.event.booking.domain.BookingRepository;
+import com.aymanetech.event.booking.domain.BookingStatus;
+import com.aymanetech.event.common.exception.ResourceNotFoundException;
+import com.aymanetech.event.event.application.event.EventChangedEvent;
+import com.aymanetech.event.event.application.service.EventService;
+import com.aymanetech.event.event.domain.entity.Event;
+import com.aymanetech.event.event.domain.vo.BookingType;
+import com.aymanetech.event.event.domain.vo.EventId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Remaining capacity of hot events, kept in memory so admissions never touch the database.
+ * Each event owns its own {@link AtomicInteger}; reservations are CAS loops, so contention
+ * on one event never blocks another.
+ * <p>
+ * Only the booking type and the seat counts are kept; everything else about the event is
+ * read when its bookings are written. An update of the event refreshes its entry.
+ * <p>
+ * Reservations and releases made inside a transaction follow its outcome, like the
+ * database counter they mirror.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatLedger {
+    private final HotEventProperties properties;
+    private final EventService eventService;
+    private final BookingRepository bookingRepository;
+
+    private final Map<EventId, Entry> entries = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        entries.clear();
+        if (!properties.enabled())
+            return;
+
+        var holdingStatuses = Arrays.stream(BookingStatus.values())
+                .filter(BookingStatus::holdsSeats)
+                .toList();
+        for (var id : properties.eventIds()) {
+            var eventId = EventId.of(id);
+            var event = eventService.findEventEntityById(eventId);
+            var bookedTickets = bookingRepository.sumTicketsByEventIdAndStatusIn(eventId, holdingStatuses);
+            var remaining = new AtomicInteger(event.getNumberOfSeats() - (int) bookedTickets);
+            entries.put(eventId, new Entry(event.getBookingType(), event.getNumberOfSeats(), remaining));
+            log.info("Hot event {} loaded into the seat ledger with {} seats left", id, entries.get(eventId).remaining());
+        }
+    }
+
+    public boolean isHot(EventId eventId) {
+        return entries.containsKey(eventId);
+    }
+
+    public Optional<BookingType> findBookingType(EventId eventId) {
+        return Optional.ofNullable(entries.get(eventId))
+                .map(Entry::bookingType);
+    }
+
+    /**
+     * Picks up a new booking type or capacity once the change is committed. A capacity
+     * change moves the remaining seats by the same amount, so admissions not yet written
+     * behind stay counted. A deleted event leaves the ledger.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent changed) {
+        var eventId = changed.eventId();
+        if (!entries.containsKey(eventId))
+            return;
+
+        Event event;
+        try {
+            event = eventService.findEventEntityById(eventId);
+        } catch (ResourceNotFoundException e) {
+            entries.remove(eventId);
+            log.info("Hot event {} left the seat ledger", eventId.value());
+            return;
+        }
+        entries.computeIfPresent(eventId, (id, entry) -> {
+            entry.remaining().addAndGet(event.getNumberOfSeats() - entry.capacity());
+            return new Entry(event.getBookingType(), event.getNumberOfSeats(), entry.remaining());
+        });
+    }
+
+    /**
+     * Takes seats off the ledger at once. Inside a transaction they are given back if the
+     * transaction rolls back, so the ledger never drifts from the database counter.
+     */
+    public boolean tryReserve(EventId eventId, int seats) {
+        var remaining = entries.get(eventId).remaining();
+        int current;
+        do {
+            current = remaining.get();
+            if (current < seats)
+                return false;
+        } while (!remaining.compareAndSet(current, current - seats));
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK)
+                        remaining.addAndGet(seats);
+                }
+            });
+        return true;
+    }
+
+    /**
+     * Gives seats back to the ledger. Inside a transaction this happens only once it has
+     * committed; until then the seats stay taken, as they do in the database.
+     */
+    public void release(EventId eventId, int seats) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addSeats(eventId, seats);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addSeats(eventId, seats);
+            }
+        });
+    }
+
+    private void addSeats(EventId eventId, int seats) {
+        var entry = entries.get(eventId);
+        if (entry != null)
+            entry.remaining().addAndGet(seats);
+    }
+
+    public int remainingSeats(EventId eventId) {
+        return entries.get(eventId).remaining().get();
+    }
+
+    private record Entry(BookingType bookingType, int capacity, AtomicInteger remaining) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.aymanetech.event.booking.application.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.regex.Pattern;
+
+/**
+ * Creates the upcoming monthly partitions of the bookings table and, when enabled,
+ * detaches the partitions of events past the retention period. Detached partitions
+ * are renamed with a {@code _detached} suffix so their month can be recreated.
+ */
+@Slf4j
+@Component
+public class BookingPartitionMaintainer {
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("bookings_p(\\d{6})");
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingPartitionProperties properties;
+
+    public BookingPartitionMaintainer(JdbcTemplate jdbcTemplate, BookingPartitionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.booking.partitions.maintenance-cron}")
+    public void maintain() {
+        try {
+            createUpcomingPartitions(YearMonth.now());
+            properties.detachHorizon(LocalDate.now())
+                    .ifPresent(horizon -> detachPartitionsBefore(YearMonth.from(horizon)));
+        } catch (RuntimeException e) {
+            log.error("Failed to maintain the bookings partitions", e);
+        }
+    }
+
+    private void createUpcomingPartitions(YearMonth current) {
+        for (int i = 0; i <= properties.monthsAhead(); i++)
+            jdbcTemplate.queryForObject("SELECT create_bookings_partition(?)", String.class, current.plusMonths(i).atDay(1));
+    }
+
+    private void detachPartitionsBefore(YearMonth cutoff) {
+        var partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                         JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'bookings'::regclass
+                """, String.class);
+        for (var partition : partitions) {
+            var matcher = MONTHLY_PARTITION.matcher(partition);
+            if (!matcher.matches() || !YearMonth.parse(matcher.group(1), PARTITION_MONTH).isBefore(cutoff))
+                continue;
+
+            jdbcTemplate.execute("ALTER TABLE bookings DETACH PARTITION " + partition);
+            jdbcTemplate.execute("ALTER TABLE " + partition + " RENAME TO " + partition + "_detached");
+            log.info("Detached bookings partition {}", partition);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.aymanetech.event.booking.application.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.Optional;
+
+/**
+ * Settings of the monthly partitions of the bookings table. Partitions are kept
+ * {@code monthsAhead} months ahead of the current month; when {@code detachAfter}
+ * is set, partitions of events older than that are detached from the table and
+ * left in place as archive tables.
+ * <p>
+ * Detached bookings no longer show up in any booking query, and the booking stats of
+ * their events are no longer reconciled but keep their last totals.
+ */
+@ConfigurationProperties("app.booking.partitions")
+public record BookingPartitionProperties(
+        int monthsAhead,
+        Period detachAfter,
+        String maintenanceCron
+) {
+
+    /**
+     * Start of the first month whose partition is kept attached; bookings of events
+     * dated before it are detached. Empty when partitions are never detached.
+     */
+    public Optional<LocalDateTime> detachHorizon(LocalDate today) {
+        return Optional.ofNullable(detachAfter)
+                .map(period -> today.minus(period).withDayOfMonth(1).atStartOfDay());
+    }
+}
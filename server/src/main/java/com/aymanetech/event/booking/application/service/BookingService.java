@@ -2,24 +2,50 @@ package com.aymanetech.event.booking.application.service;
 
 import com.aymanetech.event.booking.application.dto.BookingRequestDto;
 import com.aymanetech.event.booking.application.dto.BookingResponseDto;
+import com.aymanetech.event.booking.application.dto.BookingTrackingDto;
+import com.aymanetech.event.booking.application.dto.BulkStatusResultDto;
+import com.aymanetech.event.booking.application.dto.BulkStatusUpdateDto;
+import com.aymanetech.event.booking.application.export.ExportFormat;
 import com.aymanetech.event.booking.domain.BookingId;
 import com.aymanetech.event.booking.domain.BookingStatus;
+import com.aymanetech.event.common.application.pagination.Cursor;
+import com.aymanetech.event.common.application.pagination.CursorPage;
 import com.aymanetech.event.event.domain.vo.EventId;
 import com.aymanetech.event.user.domain.vo.UserId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.UUID;
+
 public interface BookingService {
     BookingResponseDto createBooking(BookingRequestDto request);
 
+    BookingResponseDto holdSeats(BookingRequestDto request);
+
+    BookingResponseDto confirmHold(BookingId bookingId);
+
+    int releaseExpiredHolds(Collection<BookingId> bookingIds);
+
     BookingResponseDto findBookingById(BookingId id);
 
+    BookingTrackingDto trackBooking(UUID reference);
+
     Page<BookingResponseDto> findBookingsByUser(UserId userId, Pageable pageable);
 
+    CursorPage<BookingResponseDto> findBookingsByUser(UserId userId, Cursor cursor, int size);
+
     Page<BookingResponseDto> findBookingsByEvent(EventId eventId, Pageable pageable);
 
+    CursorPage<BookingResponseDto> findBookingsByEvent(EventId eventId, Cursor cursor, int size);
+
+    void exportAttendees(EventId eventId, ExportFormat format, OutputStream out);
+
     BookingResponseDto updateBookingStatus(BookingId bookingId, BookingStatus status);
 
+    BulkStatusResultDto updateBookingStatuses(BulkStatusUpdateDto request);
+
     void cancelBooking(BookingId bookingId);
 
 }
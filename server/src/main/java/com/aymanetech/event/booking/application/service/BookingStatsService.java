@@ -0,0 +1,21 @@
+package com.aymanetech.event.booking.application.service;
+
+import com.aymanetech.event.booking.application.dto.EventBookingStatsDto;
+import com.aymanetech.event.booking.domain.Booking;
+import com.aymanetech.event.booking.domain.BookingStatus;
+import com.aymanetech.event.booking.domain.BookingTickets;
+import com.aymanetech.event.event.domain.vo.EventId;
+
+import java.util.Collection;
+
+public interface BookingStatsService {
+    void recordCreated(Collection<Booking> bookings);
+
+    void recordTransition(Booking booking, BookingStatus previous);
+
+    void recordTransitions(Collection<BookingTickets> bookings, BookingStatus previous, BookingStatus status);
+
+    EventBookingStatsDto findStats(EventId eventId);
+
+    boolean reconcile(EventId eventId);
+}
@@ -2,21 +2,49 @@ package com.aymanetech.event.booking.application.service;
 
 import com.aymanetech.event.booking.application.dto.BookingRequestDto;
 import com.aymanetech.event.booking.application.dto.BookingResponseDto;
+import com.aymanetech.event.booking.application.dto.BookingTrackingDto;
+import com.aymanetech.event.booking.application.dto.BookingTrackingDto.State;
+import com.aymanetech.event.booking.application.dto.BulkStatusResultDto;
+import com.aymanetech.event.booking.application.dto.BulkStatusUpdateDto;
+import com.aymanetech.event.booking.application.export.AttendeeExportWriter;
+import com.aymanetech.event.booking.application.export.ExportFormat;
+import com.aymanetech.event.booking.application.hold.HoldExpiryWheel;
+import com.aymanetech.event.booking.application.hold.HoldProperties;
+import com.aymanetech.event.booking.application.ledger.BookingWriteBehind;
+import com.aymanetech.event.booking.application.ledger.SeatLedger;
 import com.aymanetech.event.booking.application.mapper.BookingMapper;
 import com.aymanetech.event.booking.domain.Booking;
 import com.aymanetech.event.booking.domain.BookingId;
 import com.aymanetech.event.booking.domain.BookingRepository;
 import com.aymanetech.event.booking.domain.BookingStatus;
+import com.aymanetech.event.booking.domain.BookingTickets;
+import com.aymanetech.event.common.application.pagination.Cursor;
+import com.aymanetech.event.common.application.pagination.CursorPage;
 import com.aymanetech.event.common.application.service.ApplicationService;
+import com.aymanetech.event.common.exception.BusinessValidationException;
 import com.aymanetech.event.common.exception.ResourceNotFoundException;
 import com.aymanetech.event.event.application.service.EventService;
+import com.aymanetech.event.event.application.service.SeatInventoryService;
 import com.aymanetech.event.event.domain.entity.Event;
-import com.aymanetech.event.event.domain.vo.BookingType;
 import com.aymanetech.event.event.domain.vo.EventId;
+import com.aymanetech.event.user.application.service.UserService;
 import com.aymanetech.event.user.domain.vo.UserId;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingInt;
 
 @ApplicationService
 @RequiredArgsConstructor
@@ -24,24 +52,109 @@ public class DefaultBookingService implements BookingService {
     private final BookingRepository repository;
     private final BookingMapper mapper;
     private final EventService eventService;
+    private final UserService userService;
+    private final SeatInventoryService seatInventoryService;
+    private final SeatLedger seatLedger;
+    private final BookingWriteBehind writeBehind;
+    private final HoldExpiryWheel holdExpiryWheel;
+    private final HoldProperties holdProperties;
+    private final WaitlistService waitlistService;
+    private final AttendeeExportWriter attendeeExportWriter;
+    private final BookingStatsService bookingStatsService;
+    private final EntityManager entityManager;
 
     @Override
     public BookingResponseDto createBooking(BookingRequestDto request) {
-        var event = eventService.findEventEntityById(EventId.of(request.eventId()));
+        var eventId = EventId.of(request.eventId());
+        if (seatLedger.isHot(eventId))
+            return createHotEventBooking(eventId, request);
 
-        ensureSeatsAreAvailable(request, event);
+        var event = eventService.findEventEntityById(eventId);
+        seatInventoryService.reserveSeats(eventId, request.numberOfTickets());
+
+        var savedBooking = repository.save(newBooking(request, event));
+        bookingStatsService.recordCreated(List.of(savedBooking));
+        return mapper.toResponseDto(savedBooking);
+    }
+
+    /**
+     * Admits against the seat ledger and answers before the booking is written. The
+     * response carries no id but a reference, to be followed through {@link #trackBooking}.
+     */
+    private BookingResponseDto createHotEventBooking(EventId eventId, BookingRequestDto request) {
+        var bookingType = seatLedger.findBookingType(eventId).orElseThrow();
         var booking = mapper.toEntity(request)
-                .setStatus(event.getBookingType() == BookingType.AUTOMATIC ?
-                        BookingStatus.APPROVED : BookingStatus.PENDING);
+                .setUser(userService.findUserEntityById(UserId.of(request.userId())))
+                .setStatus(BookingStatus.initialFor(bookingType))
+                .setReference(UUID.randomUUID());
+        if (!seatLedger.tryReserve(eventId, request.numberOfTickets()))
+            throw new IllegalStateException("Not enough seats available");
+        if (!writeBehind.enqueue(eventId, booking)) {
+            seatLedger.release(eventId, request.numberOfTickets());
+            throw new IllegalStateException("Too many pending bookings, try again later");
+        }
+        return mapper.toResponseDto(booking);
+    }
+
+    private Booking newBooking(BookingRequestDto request, Event event) {
+        var user = userService.findUserEntityById(UserId.of(request.userId()));
+        return mapper.toEntity(request)
+                .setUser(user)
+                .setEvent(event)
+                .setStatus(BookingStatus.initialFor(event.getBookingType()));
+    }
+
+    @Override
+    public BookingResponseDto holdSeats(BookingRequestDto request) {
+        var eventId = EventId.of(request.eventId());
+        var event = eventService.findEventEntityById(eventId);
+        seatInventoryService.reserveSeats(eventId, request.numberOfTickets());
+        if (seatLedger.isHot(eventId) && !seatLedger.tryReserve(eventId, request.numberOfTickets()))
+            throw new IllegalStateException("Not enough seats available");
 
+        var booking = newBooking(request, event)
+                .setStatus(BookingStatus.HELD)
+                .setHoldExpiresAt(Instant.now().plus(holdProperties.ttl()));
         var savedBooking = repository.save(booking);
+        holdExpiryWheel.schedule(savedBooking.getId(), savedBooking.getHoldExpiresAt());
         return mapper.toResponseDto(savedBooking);
     }
 
-    private void ensureSeatsAreAvailable(BookingRequestDto request, Event event) {
-        long approvedBookings = repository.countByEventAndStatus(event, BookingStatus.APPROVED);
-        if (approvedBookings + request.numberOfTickets() > event.getNumberOfSeats())
-            throw new IllegalStateException("Not enough seats available");
+    @Override
+    public BookingResponseDto confirmHold(BookingId bookingId) {
+        var booking = getBookingForUpdate(bookingId);
+        if (booking.getStatus() != BookingStatus.HELD)
+            throw new BusinessValidationException("Booking " + bookingId.value() + " is not on hold");
+        if (isHoldExpired(booking, Instant.now()))
+            throw new BusinessValidationException("Hold on booking " + bookingId.value() + " has expired");
+
+        booking.setStatus(BookingStatus.initialFor(booking.getEvent().getBookingType()))
+                .setHoldExpiresAt(null);
+        bookingStatsService.recordTransition(booking, BookingStatus.HELD);
+        holdExpiryWheel.cancel(bookingId);
+        return mapper.toResponseDto(booking);
+    }
+
+    @Override
+    public int releaseExpiredHolds(Collection<BookingId> bookingIds) {
+        var now = Instant.now();
+        int released = 0;
+        for (var bookingId : bookingIds) {
+            var booking = repository.findByIdForUpdate(bookingId).orElse(null);
+            if (booking == null || booking.getStatus() != BookingStatus.HELD || !isHoldExpired(booking, now))
+                continue;
+            changeStatus(booking, BookingStatus.CANCELLED);
+            released++;
+        }
+        return released;
+    }
+
+    /**
+     * A hold without an expiry cannot be vouched for, so it counts as expired.
+     */
+    private static boolean isHoldExpired(Booking booking, Instant now) {
+        var expiresAt = booking.getHoldExpiresAt();
+        return expiresAt == null || !expiresAt.isAfter(now);
     }
 
     @Override
@@ -51,33 +164,131 @@ public class DefaultBookingService implements BookingService {
                 .orElseThrow(() -> new ResourceNotFoundException("Booking", id.value()));
     }
 
+    @Override
+    public BookingTrackingDto trackBooking(UUID reference) {
+        // the write-behind settles a reference only after its row or drop record is committed
+        if (writeBehind.isPending(reference))
+            return new BookingTrackingDto(reference, State.QUEUED, null, null);
+        var booking = repository.findByReference(reference);
+        if (booking.isPresent())
+            return new BookingTrackingDto(reference, State.WRITTEN, mapper.toResponseDto(booking.get()), null);
+        return repository.findDropReason(reference)
+                .map(reason -> new BookingTrackingDto(reference, State.DROPPED, null, reason))
+                .orElseThrow(() -> new ResourceNotFoundException("Booking with reference " + reference + " not found"));
+    }
+
     @Override
     public Page<BookingResponseDto> findBookingsByUser(UserId userId, Pageable pageable) {
         return repository.findByUserId(userId, pageable)
                 .map(mapper::toResponseDto);
     }
 
+    @Override
+    public CursorPage<BookingResponseDto> findBookingsByUser(UserId userId, Cursor cursor, int size) {
+        var bookings = repository.findByUserIdBefore(userId, cursor.createdAt(), cursor.id(), Limit.of(size + 1));
+        return CursorPage.of(bookings, size, DefaultBookingService::cursorOf, mapper::toResponseDto);
+    }
+
     @Override
     public Page<BookingResponseDto> findBookingsByEvent(EventId eventId, Pageable pageable) {
         return repository.findByEventId(eventId, pageable)
                 .map(mapper::toResponseDto);
     }
 
+    @Override
+    public CursorPage<BookingResponseDto> findBookingsByEvent(EventId eventId, Cursor cursor, int size) {
+        var bookings = repository.findByEventIdBefore(eventId, cursor.createdAt(), cursor.id(), Limit.of(size + 1));
+        return CursorPage.of(bookings, size, DefaultBookingService::cursorOf, mapper::toResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAttendees(EventId eventId, ExportFormat format, OutputStream out) {
+        try (var attendees = repository.streamAttendeesByEventId(eventId)) {
+            attendeeExportWriter.write(attendees, format, out);
+        }
+    }
+
+    private static Cursor cursorOf(Booking booking) {
+        return new Cursor(booking.getTimestamp().createdAt(), booking.getId().value());
+    }
+
     @Override
     public BookingResponseDto updateBookingStatus(BookingId bookingId, BookingStatus status) {
-        var booking = getBookingById(bookingId);
-        booking.setStatus(status);
+        if (status == BookingStatus.HELD)
+            throw new BusinessValidationException("Seats can only be held through the hold endpoint");
+        var booking = getBookingForUpdate(bookingId);
+        changeStatus(booking, status);
         return mapper.toResponseDto(booking);
     }
 
-    private Booking getBookingById(BookingId bookingId) {
-        return repository.findById(bookingId)
-                .orElseThrow(() -> new ResourceNotFoundException("Booking", bookingId.value()));
+    /**
+     * Pending bookings already hold their seats, so approving them can never oversell.
+     * Rejecting them gives the seats back per event and promotes the waitlists.
+     */
+    @Override
+    public BulkStatusResultDto updateBookingStatuses(BulkStatusUpdateDto request) {
+        var status = request.status();
+        if (status != BookingStatus.APPROVED && status != BookingStatus.REJECTED)
+            throw new BusinessValidationException("Pending bookings can only be approved or rejected in bulk");
+        if ((request.bookingIds() == null) == (request.eventId() == null))
+            throw new BusinessValidationException("Either booking ids or an event id must be given");
+
+        var requestedIds = request.bookingIds() == null ? List.<Long>of() : request.bookingIds();
+        // the native UPDATE bypasses the persistence context: pending changes are written
+        // first, and bookings loaded before are dropped so none is flushed back over it
+        entityManager.flush();
+        List<BookingTickets> updated;
+        if (request.eventId() != null)
+            updated = repository.updatePendingStatusByEvent(request.eventId(),
+                    request.limit() == null ? Integer.MAX_VALUE : request.limit(), status.name());
+        else
+            updated = requestedIds.isEmpty() ? List.of() : repository.updatePendingStatus(requestedIds, status.name());
+        entityManager.clear();
+
+        if (status == BookingStatus.REJECTED)
+            updated.stream()
+                    .collect(groupingBy(BookingTickets::getEventId, summingInt(BookingTickets::getNumberOfTickets)))
+                    .forEach((eventId, seats) -> releaseSeats(EventId.of(eventId), seats));
+
+        bookingStatsService.recordTransitions(updated, BookingStatus.PENDING, status);
+
+        var updatedIds = updated.stream().map(BookingTickets::getId).toList();
+        var updatedIdSet = new HashSet<>(updatedIds);
+        var skippedIds = requestedIds.stream()
+                .filter(id -> !updatedIdSet.contains(id))
+                .toList();
+        return new BulkStatusResultDto(status, updatedIds, skippedIds);
+    }
+
+    private void releaseSeats(EventId eventId, int seats) {
+        seatInventoryService.releaseSeats(eventId, seats);
+        seatLedger.release(eventId, seats);
+        waitlistService.promoteWaitlist(eventId);
     }
 
     @Override
     public void cancelBooking(BookingId bookingId) {
-        getBookingById(bookingId)
-                .setStatus(BookingStatus.CANCELLED);
+        changeStatus(getBookingForUpdate(bookingId), BookingStatus.CANCELLED);
+    }
+
+    private void changeStatus(Booking booking, BookingStatus status) {
+        var eventId = booking.getEvent().getId();
+        var seats = booking.getNumberOfTickets();
+        if (booking.getStatus().holdsSeats() && !status.holdsSeats()) {
+            releaseSeats(eventId, seats);
+        } else if (!booking.getStatus().holdsSeats() && status.holdsSeats()) {
+            seatInventoryService.reserveSeats(eventId, seats);
+            if (seatLedger.isHot(eventId) && !seatLedger.tryReserve(eventId, seats))
+                throw new IllegalStateException("Not enough seats available");
+        }
+        var previous = booking.getStatus();
+        booking.setStatus(status);
+        bookingStatsService.recordTransition(booking, previous);
+    }
+
+    private Booking getBookingForUpdate(BookingId bookingId) {
+        return repository.findByIdForUpdate(bookingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking", bookingId.value()));
     }
 }
@@ -0,0 +1,103 @@
+package com.aymanetech.event.booking.application.service;
+
+import com.aymanetech.event.booking.application.dto.EventBookingStatsDto;
+import com.aymanetech.event.booking.domain.Booking;
+import com.aymanetech.event.booking.domain.BookingStatus;
+import com.aymanetech.event.booking.domain.BookingTickets;
+import com.aymanetech.event.booking.domain.EventBookingStatsRepository;
+import com.aymanetech.event.common.application.service.ApplicationService;
+import com.aymanetech.event.event.domain.vo.EventId;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps {@code event_booking_stats} in step with the bookings table. Callers report every
+ * creation and status change; the resulting deltas are summed per event and applied with
+ * one upsert each, in the caller's transaction.
+ */
+@ApplicationService
+@RequiredArgsConstructor
+public class DefaultBookingStatsService implements BookingStatsService {
+    private final EventBookingStatsRepository repository;
+
+    @Override
+    public void recordCreated(Collection<Booking> bookings) {
+        var deltas = new HashMap<EventId, Delta>();
+        bookings.forEach(booking -> deltas.merge(booking.getEvent().getId(),
+                Delta.of(booking.getStatus(), booking.getNumberOfTickets(), booking.getTotalPrice()), Delta::plus));
+        apply(deltas);
+    }
+
+    @Override
+    public void recordTransition(Booking booking, BookingStatus previous) {
+        var delta = Delta.of(booking.getStatus(), booking.getNumberOfTickets(), booking.getTotalPrice())
+                .minus(Delta.of(previous, booking.getNumberOfTickets(), booking.getTotalPrice()));
+        apply(Map.of(booking.getEvent().getId(), delta));
+    }
+
+    @Override
+    public void recordTransitions(Collection<BookingTickets> bookings, BookingStatus previous, BookingStatus status) {
+        var deltas = new HashMap<EventId, Delta>();
+        bookings.forEach(booking -> deltas.merge(EventId.of(booking.getEventId()),
+                Delta.of(status, booking.getNumberOfTickets(), booking.getTotalPrice())
+                        .minus(Delta.of(previous, booking.getNumberOfTickets(), booking.getTotalPrice())),
+                Delta::plus));
+        apply(deltas);
+    }
+
+    @Override
+    public EventBookingStatsDto findStats(EventId eventId) {
+        return repository.findById(eventId)
+                .map(stats -> new EventBookingStatsDto(eventId.value(), stats.getTicketsSold(), stats.getRevenue(), stats.getPendingBookings()))
+                .orElseGet(() -> new EventBookingStatsDto(eventId.value(), 0, BigDecimal.ZERO, 0));
+    }
+
+    /**
+     * Rebuilds the totals of one event from its bookings. Holding the stats row lock while
+     * recomputing orders the rebuild with concurrent deltas: those committed earlier are in
+     * the recomputed totals, later ones are applied on top of them.
+     *
+     * @return whether the stored totals had drifted
+     */
+    @Override
+    public boolean reconcile(EventId eventId) {
+        repository.createIfAbsent(eventId.value());
+        repository.findByIdForUpdate(eventId);
+        return repository.recompute(eventId.value()) > 0;
+    }
+
+    private void apply(Map<EventId, Delta> deltas) {
+        deltas.forEach((eventId, delta) -> {
+            if (!delta.isZero())
+                repository.applyDelta(eventId.value(), delta.ticketsSold(), delta.revenue(), delta.pendingBookings());
+        });
+    }
+
+    private record Delta(long ticketsSold, BigDecimal revenue, long pendingBookings) {
+        private static final Delta ZERO = new Delta(0, BigDecimal.ZERO, 0);
+
+        static Delta of(BookingStatus status, int tickets, BigDecimal totalPrice) {
+            if (status == BookingStatus.APPROVED)
+                return new Delta(tickets, totalPrice, 0);
+            if (status == BookingStatus.PENDING)
+                return new Delta(0, BigDecimal.ZERO, 1);
+            return ZERO;
+        }
+
+        Delta plus(Delta other) {
+            return new Delta(ticketsSold + other.ticketsSold, revenue.add(other.revenue), pendingBookings + other.pendingBookings);
+        }
+
+        Delta minus(Delta other) {
+            return new Delta(ticketsSold - other.ticketsSold, revenue.subtract(other.revenue), pendingBookings - other.pendingBookings);
+        }
+
+        boolean isZero() {
+            return ticketsSold == 0 && revenue.signum() == 0 && pendingBookings == 0;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.aymanetech.event.booking.application.service;
+
+import com.aymanetech.event.booking.application.dto.BookingRequestDto;
+import com.aymanetech.event.booking.application.dto.WaitlistPositionDto;
+import com.aymanetech.event.booking.application.ledger.SeatLedger;
+import com.aymanetech.event.booking.domain.BookingRepository;
+import com.aymanetech.event.booking.domain.Waitlist;
+import com.aymanetech.event.booking.domain.WaitlistEntry;
+import com.aymanetech.event.booking.domain.WaitlistEntryRepository;
+import com.aymanetech.event.booking.domain.WaitlistRepository;
+import com.aymanetech.event.common.application.service.ApplicationService;
+import com.aymanetech.event.common.exception.BusinessValidationException;
+import com.aymanetech.event.common.exception.ResourceNotFoundException;
+import com.aymanetech.event.event.application.service.EventService;
+import com.aymanetech.event.event.application.service.SeatInventoryService;
+import com.aymanetech.event.event.domain.vo.EventId;
+import com.aymanetech.event.user.application.service.UserService;
+import com.aymanetech.event.user.domain.vo.UserId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+
+@ApplicationService
+@RequiredArgsConstructor
+public class DefaultWaitlistService implements WaitlistService {
+    private static final int PROMOTION_BATCH_SIZE = 100;
+
+    private final WaitlistRepository waitlistRepository;
+    private final WaitlistEntryRepository entryRepository;
+    private final BookingRepository bookingRepository;
+    private final EventService eventService;
+    private final UserService userService;
+    private final SeatInventoryService seatInventoryService;
+    private final SeatLedger seatLedger;
+    private final BookingStatsService bookingStatsService;
+
+    /**
+     * Queues the user for seats of a sold-out event. An event with enough seats left is to
+     * be booked directly, and a user can only be on an event's waitlist once.
+     */
+    @Override
+    public WaitlistPositionDto joinWaitlist(BookingRequestDto request) {
+        var eventId = EventId.of(request.eventId());
+        var userId = UserId.of(request.userId());
+        var event = eventService.findEventEntityById(eventId);
+        var availableSeats = seatLedger.isHot(eventId)
+                ? seatLedger.remainingSeats(eventId)
+                : seatInventoryService.findAvailableSeats(eventId);
+        if (availableSeats >= request.numberOfTickets())
+            throw new BusinessValidationException("Event " + eventId.value() + " still has " + availableSeats
+                    + " seats available, book them directly");
+        var user = userService.findUserEntityById(userId);
+
+        waitlistRepository.createIfAbsent(eventId.value());
+        var waitlist = getWaitlistForUpdate(eventId);
+        // checked under the waitlist lock, so two concurrent joins cannot both pass
+        if (entryRepository.findByEventIdAndUserId(eventId, userId).isPresent())
+            throw new BusinessValidationException("User " + userId.value() + " is already on the waitlist of event " + eventId.value());
+        var entry = new WaitlistEntry()
+                .setEvent(event)
+                .setUser(user)
+                .setNumberOfTickets(request.numberOfTickets())
+                .setPosition(waitlist.nextPosition());
+        entryRepository.save(entry);
+        return toPositionDto(entry, waitlist.rankOf(entry));
+    }
+
+    @Override
+    public WaitlistPositionDto findWaitlistPosition(EventId eventId, UserId userId) {
+        var entry = entryRepository.findByEventIdAndUserId(eventId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User " + userId.value() + " is not on the waitlist of event " + eventId.value()));
+        var waitlist = waitlistRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Waitlist", eventId.value()));
+        return toPositionDto(entry, waitlist.rankOf(entry));
+    }
+
+    /**
+     * Turns the head of the waitlist into bookings for as long as the freed seats allow.
+     * Strict FIFO: promotion stops at the first entry that does not fit.
+     */
+    @Override
+    public void promoteWaitlist(EventId eventId) {
+        var waitlist = waitlistRepository.findByIdForUpdate(eventId).orElse(null);
+        if (waitlist == null || waitlist.getPromotedPosition().equals(waitlist.getLastPosition()))
+            return;
+
+        var promoted = new ArrayList<WaitlistEntry>();
+        for (var entry : entryRepository.findHead(eventId, Limit.of(PROMOTION_BATCH_SIZE))) {
+            if (!tryReserveSeats(eventId, entry.getNumberOfTickets()))
+                break;
+            promoted.add(entry);
+        }
+        if (promoted.isEmpty())
+            return;
+
+        var bookings = bookingRepository.saveAll(promoted.stream().map(WaitlistEntry::toBooking).toList());
+        bookingStatsService.recordCreated(bookings);
+        entryRepository.deleteAllInBatch(promoted);
+        waitlist.setPromotedPosition(promoted.getLast().getPosition());
+    }
+
+    private boolean tryReserveSeats(EventId eventId, int seats) {
+        var hot = seatLedger.isHot(eventId);
+        if (hot && !seatLedger.tryReserve(eventId, seats))
+            return false;
+        if (seatInventoryService.tryReserveSeats(eventId, seats))
+            return true;
+        if (hot)
+            seatLedger.release(eventId, seats);
+        return false;
+    }
+
+    private Waitlist getWaitlistForUpdate(EventId eventId) {
+        return waitlistRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Waitlist", eventId.value()));
+    }
+
+    private static WaitlistPositionDto toPositionDto(WaitlistEntry entry, long position) {
+        return new WaitlistPositionDto(
+                entry.getEvent().getId().value(),
+                entry.getUser().getId().value(),
+                entry.getNumberOfTickets(),
+                position
+        );
+    }
+}
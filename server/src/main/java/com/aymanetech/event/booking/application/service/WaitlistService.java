@@ -0,0 +1,15 @@
+package com.aymanetech.event.booking.application.service;
+
+import com.aymanetech.event.booking.application.dto.BookingRequestDto;
+import com.aymanetech.event.booking.application.dto.WaitlistPositionDto;
+import com.aymanetech.event.event.domain.vo.EventId;
+import com.aymanetech.event.user.domain.vo.UserId;
+
+public interface WaitlistService {
+
+    WaitlistPositionDto joinWaitlist(BookingRequestDto request);
+
+    WaitlistPositionDto findWaitlistPosition(EventId eventId, UserId userId);
+
+    void promoteWaitlist(EventId eventId);
+}
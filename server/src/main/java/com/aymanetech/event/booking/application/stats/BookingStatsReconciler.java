@@ -0,0 +1,56 @@
+package com.aymanetech.event.booking.application.stats;
+
+import com.aymanetech.event.booking.application.partition.BookingPartitionProperties;
+import com.aymanetech.event.booking.application.service.BookingStatsService;
+import com.aymanetech.event.booking.domain.EventBookingStatsRepository;
+import com.aymanetech.event.event.domain.vo.EventId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Periodically rebuilds every event's booking stats from the bookings table, one event per
+ * transaction, and counts the events whose incremental totals had drifted.
+ * <p>
+ * Events dated before the partition detach horizon are left alone: their bookings are no
+ * longer in the table, so recomputing would reset their stats to zero.
+ */
+@Slf4j
+@Component
+public class BookingStatsReconciler {
+    private final BookingStatsService bookingStatsService;
+    private final EventBookingStatsRepository repository;
+    private final BookingPartitionProperties partitionProperties;
+    private final Counter corrections;
+
+    public BookingStatsReconciler(BookingStatsService bookingStatsService, EventBookingStatsRepository repository,
+                                  BookingPartitionProperties partitionProperties, MeterRegistry meterRegistry) {
+        this.bookingStatsService = bookingStatsService;
+        this.repository = repository;
+        this.partitionProperties = partitionProperties;
+        this.corrections = Counter.builder("booking.stats.corrected")
+                .description("Events whose booking stats were corrected by reconciliation")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.booking.stats.reconcile-cron}")
+    public void reconcileAll() {
+        var horizon = partitionProperties.detachHorizon(LocalDate.now()).orElse(null);
+        var eventIds = repository.findAllTrackedEventIds(horizon);
+        var corrected = 0;
+        for (var eventId : eventIds) {
+            try {
+                if (bookingStatsService.reconcile(EventId.of(eventId)))
+                    corrected++;
+            } catch (RuntimeException e) {
+                log.error("Failed to reconcile booking stats of event {}", eventId, e);
+            }
+        }
+        corrections.increment(corrected);
+        log.info("Reconciled booking stats of {} events, {} had drifted", eventIds.size(), corrected);
+    }
+}
@@ -0,0 +1,17 @@
+package com.aymanetech.event.booking.domain;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record Attendee(
+        Long bookingId,
+        Integer userId,
+        String firstName,
+        String lastName,
+        String email,
+        BookingStatus status,
+        Integer numberOfTickets,
+        BigDecimal totalPrice,
+        Instant bookedAt
+) {
+}
@@ -7,39 +7,62 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcType;
+import org.hibernate.dialect.PostgreSQLEnumJdbcType;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
 @Table(name = "bookings")
+@NamedEntityGraph(
+        name = Booking.DETAILS_GRAPH,
+        attributeNodes = {@NamedAttributeNode(value = "event", subgraph = "event"), @NamedAttributeNode("user")},
+        subgraphs = @NamedSubgraph(name = "event", attributeNodes = @NamedAttributeNode("category"))
+)
 @Getter
 @Setter
 @NoArgsConstructor
 public class Booking {
+    // what BookingResponseDto reads
+    public static final String DETAILS_GRAPH = "Booking.details";
 
     @EmbeddedId
     private BookingId id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id")
     private Event event;
 
     @Enumerated(EnumType.STRING)
+    @JdbcType(PostgreSQLEnumJdbcType.class)
     private BookingStatus status = BookingStatus.PENDING;
 
     private Integer numberOfTickets;
 
     private BigDecimal totalPrice;
 
+    private Instant holdExpiresAt;
+
+    // handed out for hot event bookings, which are answered before they are written
+    private UUID reference;
+
+    // partition key of the bookings table, kept in step with the event date by a database trigger
+    @Column(updatable = false)
+    private LocalDateTime eventDate;
+
     @Embedded
     private Timestamp timestamp;
 
     public Booking setEvent(Event event) {
         this.event = event;
+        this.eventDate = event.getDate();
         this.totalPrice = event.getPrice().multiply(BigDecimal.valueOf(numberOfTickets));
         return this;
     }
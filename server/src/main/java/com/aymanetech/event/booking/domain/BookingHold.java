@@ -0,0 +1,6 @@
+package com.aymanetech.event.booking.domain;
+
+import java.time.Instant;
+
+public record BookingHold(BookingId bookingId, Instant expiresAt) {
+}
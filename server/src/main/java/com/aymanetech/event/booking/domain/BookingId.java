@@ -1,9 +1,10 @@
 package com.aymanetech.event.booking.domain;
 
+import com.aymanetech.event.common.domain.vo.IdValueObject;
 import jakarta.persistence.Column;
 import jakarta.persistence.GeneratedValue;
 
-public record BookingId(@Column(name = "id") @GeneratedValue Long value) {
+public record BookingId(@Column(name = "id") @GeneratedValue Long value) implements IdValueObject<Long> {
     public static BookingId of(Long value) {
         return new BookingId(value);
     }
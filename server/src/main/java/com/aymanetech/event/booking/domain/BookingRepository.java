@@ -1,26 +1,124 @@
 package com.aymanetech.event.booking.domain;
 
-import com.aymanetech.event.event.domain.entity.Event;
 import com.aymanetech.event.event.domain.vo.EventId;
 import com.aymanetech.event.user.domain.vo.UserId;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface BookingRepository extends JpaRepository<Booking, BookingId> {
 
+    @Override
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Optional<Booking> findById(BookingId id);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
     @Query("SELECT b FROM Booking b WHERE b.user.id = :userId")
     Page<Booking> findByUserId(UserId userId, Pageable pageable);
 
+    @EntityGraph(Booking.DETAILS_GRAPH)
     @Query("SELECT b FROM Booking b WHERE b.event.id = :eventId")
     Page<Booking> findByEventId(EventId eventId, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b WHERE b.event.id = :eventId")
-    List<Booking> findByEventId(EventId eventId);
+    // forward-only cursor: rows are fetched from the server 500 at a time
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.aymanetech.event.booking.domain.Attendee(
+                b.id.value, u.id.value, u.name.firstName, u.name.lastName, u.email,
+                b.status, b.numberOfTickets, b.totalPrice, b.timestamp.createdAt)
+            FROM Booking b JOIN b.user u
+            WHERE b.event.id = :eventId
+            ORDER BY b.id.value
+            """)
+    Stream<Attendee> streamAttendeesByEventId(EventId eventId);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @Query("""
+            SELECT b FROM Booking b
+            WHERE b.user.id = :userId
+              AND b.timestamp.createdAt <= :createdAt
+              AND (b.timestamp.createdAt < :createdAt OR b.id.value < :id)
+            ORDER BY b.timestamp.createdAt DESC, b.id.value DESC
+            """)
+    List<Booking> findByUserIdBefore(UserId userId, Instant createdAt, Long id, Limit limit);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @Query("""
+            SELECT b FROM Booking b
+            WHERE b.event.id = :eventId
+              AND b.timestamp.createdAt <= :createdAt
+              AND (b.timestamp.createdAt < :createdAt OR b.id.value < :id)
+            ORDER BY b.timestamp.createdAt DESC, b.id.value DESC
+            """)
+    List<Booking> findByEventIdBefore(EventId eventId, Instant createdAt, Long id, Limit limit);
+
+    @Query("SELECT COALESCE(SUM(b.numberOfTickets), 0) FROM Booking b WHERE b.event.id = :eventId AND b.status IN :statuses")
+    long sumTicketsByEventIdAndStatusIn(EventId eventId, Collection<BookingStatus> statuses);
+
+    @Query("SELECT new com.aymanetech.event.booking.domain.BookingHold(b.id, b.holdExpiresAt) FROM Booking b WHERE b.status = :status")
+    List<BookingHold> findAllHolds(BookingStatus status);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @Query("SELECT b FROM Booking b WHERE b.reference = :reference")
+    Optional<Booking> findByReference(UUID reference);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO dropped_bookings (reference, event_id, user_id, number_of_tickets, reason)
+            VALUES (:reference, :eventId, :userId, :numberOfTickets, :reason)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    void recordDropped(UUID reference, Long eventId, Integer userId, Integer numberOfTickets, String reason);
+
+    @Query(value = "SELECT reason FROM dropped_bookings WHERE reference = :reference", nativeQuery = true)
+    Optional<String> findDropReason(UUID reference);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id = :id")
+    Optional<Booking> findByIdForUpdate(BookingId id);
 
-    long countByEventAndStatus(Event event, BookingStatus status);
+    // The two status updates below return their rows, so they cannot be @Modifying and leave
+    // the persistence context alone: callers flush before and clear after them.
+    @Query(value = """
+            UPDATE bookings b
+            SET status = CAST(:status AS booking_status), updated_at = CURRENT_TIMESTAMP
+            FROM events e
+            WHERE e.id = b.event_id
+              AND e.booking_type = 'MANUAL'
+              AND b.status = 'PENDING'
+              AND b.id IN (:ids)
+            RETURNING b.id AS id, b.event_id AS eventId, b.number_of_tickets AS numberOfTickets, b.total_price AS totalPrice
+            """, nativeQuery = true)
+    List<BookingTickets> updatePendingStatus(Collection<Long> ids, String status);
 
+    @Query(value = """
+            UPDATE bookings b
+            SET status = CAST(:status AS booking_status), updated_at = CURRENT_TIMESTAMP
+            WHERE b.id IN (SELECT p.id
+                           FROM bookings p
+                                    JOIN events e ON e.id = p.event_id
+                           WHERE p.event_id = :eventId
+                             AND e.booking_type = 'MANUAL'
+                             AND p.status = 'PENDING'
+                           ORDER BY p.id
+                           LIMIT :limit FOR UPDATE OF p)
+            RETURNING b.id AS id, b.event_id AS eventId, b.number_of_tickets AS numberOfTickets, b.total_price AS totalPrice
+            """, nativeQuery = true)
+    List<BookingTickets> updatePendingStatusByEvent(Long eventId, int limit, String status);
 }
@@ -1,8 +1,19 @@
 package com.aymanetech.event.booking.domain;
 
+import com.aymanetech.event.event.domain.vo.BookingType;
+
 public enum BookingStatus {
+    HELD,
     PENDING,
     APPROVED,
     REJECTED,
-    CANCELLED
-}
\ No newline at end of file
+    CANCELLED;
+
+    public static BookingStatus initialFor(BookingType bookingType) {
+        return bookingType == BookingType.AUTOMATIC ? APPROVED : PENDING;
+    }
+
+    public boolean holdsSeats() {
+        return this == HELD || this == PENDING || this == APPROVED;
+    }
+}
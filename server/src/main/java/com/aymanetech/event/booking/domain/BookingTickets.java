@@ -0,0 +1,13 @@
+package com.aymanetech.event.booking.domain;
+
+import java.math.BigDecimal;
+
+public interface BookingTickets {
+    Long getId();
+
+    Long getEventId();
+
+    Integer getNumberOfTickets();
+
+    BigDecimal getTotalPrice();
+}
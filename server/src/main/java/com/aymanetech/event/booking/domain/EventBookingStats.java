@@ -0,0 +1,31 @@
+package com.aymanetech.event.booking.domain;
+
+import com.aymanetech.event.event.domain.vo.EventId;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Running totals of an event's bookings, kept up to date by applying the delta of every
+ * booking creation and status transition in the transaction that makes it.
+ */
+@Entity
+@Table(name = "event_booking_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+public class EventBookingStats {
+
+    @EmbeddedId
+    @AttributeOverride(name = "value", column = @Column(name = "event_id"))
+    private EventId eventId;
+
+    private Long ticketsSold;
+
+    private BigDecimal revenue;
+
+    private Long pendingBookings;
+}
@@ -0,0 +1,72 @@
+package com.aymanetech.event.booking.domain;
+
+import com.aymanetech.event.event.domain.vo.EventId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface EventBookingStatsRepository extends JpaRepository<EventBookingStats, EventId> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO event_booking_stats AS s (event_id, tickets_sold, revenue, pending_bookings)
+            VALUES (:eventId, :ticketsSold, :revenue, :pendingBookings)
+            ON CONFLICT (event_id) DO UPDATE
+                SET tickets_sold     = s.tickets_sold + EXCLUDED.tickets_sold,
+                    revenue          = s.revenue + EXCLUDED.revenue,
+                    pending_bookings = s.pending_bookings + EXCLUDED.pending_bookings,
+                    updated_at       = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    void applyDelta(Long eventId, long ticketsSold, BigDecimal revenue, long pendingBookings);
+
+    @Modifying
+    @Query(value = "INSERT INTO event_booking_stats (event_id) VALUES (:eventId) ON CONFLICT DO NOTHING", nativeQuery = true)
+    void createIfAbsent(Long eventId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EventBookingStats s WHERE s.eventId = :eventId")
+    Optional<EventBookingStats> findByIdForUpdate(EventId eventId);
+
+    /**
+     * Recomputes the totals of one event from its bookings.
+     *
+     * @return 1 if the stored totals had drifted, 0 otherwise
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE event_booking_stats s
+            SET tickets_sold     = a.tickets_sold,
+                revenue          = a.revenue,
+                pending_bookings = a.pending_bookings,
+                updated_at       = CURRENT_TIMESTAMP
+            FROM (SELECT COALESCE(SUM(number_of_tickets) FILTER (WHERE status = 'APPROVED'), 0) AS tickets_sold,
+                         COALESCE(SUM(total_price) FILTER (WHERE status = 'APPROVED'), 0)       AS revenue,
+                         COUNT(*) FILTER (WHERE status = 'PENDING')                             AS pending_bookings
+                  FROM bookings
+                  WHERE event_id = :eventId) a
+            WHERE s.event_id = :eventId
+              AND (s.tickets_sold, s.revenue, s.pending_bookings)
+                IS DISTINCT FROM (a.tickets_sold, a.revenue, a.pending_bookings)
+            """, nativeQuery = true)
+    int recompute(Long eventId);
+
+    /**
+     * Ids of the events with bookings or stats, leaving out those dated before
+     * {@code horizon} when it is given.
+     */
+    @Query(value = """
+            SELECT t.event_id
+            FROM (SELECT event_id FROM bookings UNION SELECT event_id FROM event_booking_stats) t
+                     JOIN events e ON e.id = t.event_id
+            WHERE CAST(:horizon AS TIMESTAMP) IS NULL
+               OR e.date >= CAST(:horizon AS TIMESTAMP)
+            """, nativeQuery = true)
+    List<Long> findAllTrackedEventIds(LocalDateTime horizon);
+}
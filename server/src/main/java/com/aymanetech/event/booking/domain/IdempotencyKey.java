@@ -0,0 +1,18 @@
+package com.aymanetech.event.booking.domain;
+
+import jakarta.persistence.Column;
+
+import java.io.Serializable;
+
+/**
+ * An {@code Idempotency-Key} as sent by one user; the same key string from two users
+ * names two unrelated requests.
+ */
+public record IdempotencyKey(
+        @Column(name = "user_id") Integer userId,
+        @Column(name = "idempotency_key") String key
+) implements Serializable {
+    public static IdempotencyKey of(Integer userId, String key) {
+        return new IdempotencyKey(userId, key);
+    }
+}
@@ -0,0 +1,32 @@
+package com.aymanetech.event.booking.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Outcome of a booking request sent with an {@code Idempotency-Key}, keyed by
+ * the sending user and the key. The row is claimed
+ * before the booking is made and gets its serialized response in the same transaction,
+ * so a committed row always carries the response of a committed booking.
+ */
+@Entity
+@Table(name = "booking_idempotency_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdempotencyRecord {
+
+    @EmbeddedId
+    private IdempotencyKey id;
+
+    private String requestFingerprint;
+
+    private String response;
+
+    @Column(insertable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,32 @@
+package com.aymanetech.event.booking.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyKey> {
+
+    /**
+     * Blocks while another transaction holds an uncommitted claim on the same key of the
+     * same user.
+     *
+     * @return 1 if the key was claimed, 0 if it was already used
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO booking_idempotency_keys (user_id, idempotency_key, request_fingerprint)
+            VALUES (:userId, :key, :requestFingerprint)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int claim(Integer userId, String key, String requestFingerprint);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.response = :response WHERE r.id.userId = :userId AND r.id.key = :key")
+    void storeResponse(Integer userId, String key, String response);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :threshold")
+    int deleteCreatedBefore(Instant threshold);
+}
@@ -0,0 +1,36 @@
+package com.aymanetech.event.booking.domain;
+
+import com.aymanetech.event.event.domain.vo.EventId;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Head and tail of an event's waitlist. Positions are handed out densely from
+ * {@code lastPosition} and entries leave strictly from the head, so the rank of an
+ * entry is its position minus {@code promotedPosition}.
+ */
+@Entity
+@Table(name = "waitlists")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Waitlist {
+
+    @EmbeddedId
+    @AttributeOverride(name = "value", column = @Column(name = "event_id"))
+    private EventId eventId;
+
+    private Long lastPosition;
+
+    private Long promotedPosition;
+
+    public long nextPosition() {
+        return ++lastPosition;
+    }
+
+    public long rankOf(WaitlistEntry entry) {
+        return entry.getPosition() - promotedPosition;
+    }
+}
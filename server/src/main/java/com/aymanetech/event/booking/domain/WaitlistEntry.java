@@ -0,0 +1,43 @@
+package com.aymanetech.event.booking.domain;
+
+import com.aymanetech.event.event.domain.entity.Event;
+import com.aymanetech.event.user.domain.entity.User;
+import com.aymanetech.event.user.domain.vo.Timestamp;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "waitlist_entries")
+@Getter
+@Setter
+@NoArgsConstructor
+public class WaitlistEntry {
+
+    @EmbeddedId
+    private WaitlistEntryId id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id")
+    private Event event;
+
+    private Integer numberOfTickets;
+
+    private Long position;
+
+    @Embedded
+    private Timestamp timestamp;
+
+    public Booking toBooking() {
+        return new Booking()
+                .setNumberOfTickets(numberOfTickets)
+                .setUser(user)
+                .setEvent(event)
+                .setStatus(BookingStatus.initialFor(event.getBookingType()));
+    }
+}
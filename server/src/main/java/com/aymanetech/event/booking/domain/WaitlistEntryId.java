@@ -0,0 +1,11 @@
+package com.aymanetech.event.booking.domain;
+
+import com.aymanetech.event.common.domain.vo.IdValueObject;
+import jakarta.persistence.Column;
+import jakarta.persistence.GeneratedValue;
+
+public record WaitlistEntryId(@Column(name = "id") @GeneratedValue Long value) implements IdValueObject<Long> {
+    public static WaitlistEntryId of(Long value) {
+        return new WaitlistEntryId(value);
+    }
+}
@@ -0,0 +1,19 @@
+package com.aymanetech.event.booking.domain;
+
+import com.aymanetech.event.event.domain.vo.EventId;
+import com.aymanetech.event.user.domain.vo.UserId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, WaitlistEntryId> {
+
+    @Query("SELECT e FROM WaitlistEntry e JOIN FETCH e.user JOIN FETCH e.event WHERE e.event.id = :eventId ORDER BY e.position")
+    List<WaitlistEntry> findHead(EventId eventId, Limit limit);
+
+    @Query("SELECT e FROM WaitlistEntry e WHERE e.event.id = :eventId AND e.user.id = :userId")
+    Optional<WaitlistEntry> findByEventIdAndUserId(EventId eventId, UserId userId);
+}
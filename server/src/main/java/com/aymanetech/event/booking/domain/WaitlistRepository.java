@@ -0,0 +1,21 @@
+package com.aymanetech.event.booking.domain;
+
+import com.aymanetech.event.event.domain.vo.EventId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface WaitlistRepository extends JpaRepository<Waitlist, EventId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO waitlists (event_id) VALUES (:eventId) ON CONFLICT DO NOTHING", nativeQuery = true)
+    void createIfAbsent(Long eventId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM Waitlist w WHERE w.eventId = :eventId")
+    Optional<Waitlist> findByIdForUpdate(EventId eventId);
+}
@@ -0,0 +1,158 @@
+package com.aymanetech.event.booking.infrastructure.web;
+
+import com.aymanetech.event.booking.application.admission.AdmissionGate;
+import com.aymanetech.event.booking.application.admission.AdmissionRejectedException;
+import com.aymanetech.event.event.domain.vo.EventId;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static com.aymanetech.event.booking.infrastructure.web.BookingController.BASE_URL;
+import static com.aymanetech.event.booking.infrastructure.web.BookingController.QUEUE_TOKEN_HEADER;
+
+/**
+ * Runs the {@link AdmissionGate} in front of the booking and hold endpoints. It sits in the
+ * servlet filter chain, ahead of body binding and bean validation, so a request sent back
+ * with 429 to wait for its turn has not touched the connection pool.
+ * <p>
+ * The event id is read from the buffered request body, which is then replayed to the
+ * controller. A body without a usable event id is let through for validation to reject.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionFilter extends OncePerRequestFilter {
+    private static final Set<String> ADMITTED_PATHS = Set.of(BASE_URL, BASE_URL + "/holds");
+    private final AdmissionGate admissionGate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !ADMITTED_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var body = request.getInputStream().readAllBytes();
+        var eventId = readEventId(body);
+        if (eventId != null) {
+            try {
+                admissionGate.admit(eventId, request.getHeader(QUEUE_TOKEN_HEADER));
+            } catch (AdmissionRejectedException ex) {
+                reject(request, response, ex);
+                return;
+            }
+        }
+        filterChain.doFilter(new BufferedBodyRequest(request, body), response);
+    }
+
+    private EventId readEventId(byte[] body) {
+        try {
+            var eventId = objectMapper.readTree(body).path("eventId");
+            return eventId.canConvertToLong() && eventId.isIntegralNumber() ? EventId.of(eventId.longValue()) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, AdmissionRejectedException ex)
+            throws IOException {
+        var retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        if (ex.getQueueToken() != null)
+            response.setHeader(QUEUE_TOKEN_HEADER, ex.getQueueToken());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new AdmissionErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                LocalDateTime.now(),
+                ex.getMessage(),
+                "uri=" + request.getRequestURI(),
+                ex.getQueueToken(),
+                retryAfterSeconds
+        ));
+    }
+
+    private record AdmissionErrorResponse(int code, LocalDateTime timestamp, String message, String description,
+                                          String queueToken, long retryAfter) {
+    }
+
+    private static class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            var encoding = getCharacterEncoding();
+            var charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -2,18 +2,37 @@ package com.aymanetech.event.booking.infrastructure.web;
 
 import com.aymanetech.event.booking.application.dto.BookingRequestDto;
 import com.aymanetech.event.booking.application.dto.BookingResponseDto;
+import com.aymanetech.event.booking.application.dto.BookingTrackingDto;
+import com.aymanetech.event.booking.application.dto.BulkStatusResultDto;
+import com.aymanetech.event.booking.application.dto.BulkStatusUpdateDto;
+import com.aymanetech.event.booking.application.dto.EventBookingStatsDto;
+import com.aymanetech.event.booking.application.dto.WaitlistPositionDto;
+import com.aymanetech.event.booking.application.export.ExportFormat;
+import com.aymanetech.event.booking.application.idempotency.IdempotentBookingHandler;
 import com.aymanetech.event.booking.application.service.BookingService;
+import com.aymanetech.event.booking.application.service.BookingStatsService;
+import com.aymanetech.event.booking.application.service.WaitlistService;
 import com.aymanetech.event.booking.domain.BookingId;
 import com.aymanetech.event.booking.domain.BookingStatus;
+import com.aymanetech.event.common.application.pagination.Cursor;
+import com.aymanetech.event.common.application.pagination.CursorPage;
 import com.aymanetech.event.event.domain.vo.EventId;
 import com.aymanetech.event.user.domain.vo.UserId;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.UUID;
+
 import static com.aymanetech.event.booking.infrastructure.web.BookingController.BASE_URL;
 import static com.aymanetech.event.common.util.UriUtil.getUri;
 
@@ -22,17 +41,63 @@ import static com.aymanetech.event.common.util.UriUtil.getUri;
 @RequiredArgsConstructor
 public class BookingController {
     public static final String BASE_URL = "/api/v1/bookings";
+    public static final String QUEUE_TOKEN_HEADER = "Queue-Token";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
     private final BookingService bookingService;
+    private final IdempotentBookingHandler idempotentBookingHandler;
+    private final BookingStatsService bookingStatsService;
+    private final WaitlistService waitlistService;
 
     @PostMapping
     public ResponseEntity<BookingResponseDto> createBooking(
+            @RequestBody @Valid BookingRequestDto request,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        var booking = idempotencyKey == null
+                ? bookingService.createBooking(request)
+                : idempotentBookingHandler.createBooking(idempotencyKey, request);
+        if (booking.id() == null)
+            return ResponseEntity.accepted()
+                    .location(getUri(BASE_URL + "/reference", booking.reference()))
+                    .body(booking);
+        return ResponseEntity.created(getUri(BASE_URL, booking.id()))
+                .body(booking);
+    }
+
+    @PostMapping("/holds")
+    public ResponseEntity<BookingResponseDto> holdSeats(
             @RequestBody @Valid BookingRequestDto request
     ) {
-        var booking = bookingService.createBooking(request);
+        var booking = bookingService.holdSeats(request);
         return ResponseEntity.created(getUri(BASE_URL, booking.id()))
                 .body(booking);
     }
 
+    @PatchMapping("/{id}/confirm")
+    public ResponseEntity<BookingResponseDto> confirmHold(
+            @PathVariable Long id
+    ) {
+        var booking = bookingService.confirmHold(BookingId.of(id));
+        return ResponseEntity.ok(booking);
+    }
+
+    @PostMapping("/waitlist")
+    public ResponseEntity<WaitlistPositionDto> joinWaitlist(
+            @RequestBody @Valid BookingRequestDto request
+    ) {
+        var position = waitlistService.joinWaitlist(request);
+        return new ResponseEntity<>(position, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/event/{eventId}/waitlist/{userId}")
+    public ResponseEntity<WaitlistPositionDto> findWaitlistPosition(
+            @PathVariable Long eventId,
+            @PathVariable Integer userId
+    ) {
+        var position = waitlistService.findWaitlistPosition(EventId.of(eventId), UserId.of(userId));
+        return ResponseEntity.ok(position);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<BookingResponseDto> findBookingById(
             @PathVariable Long id
@@ -41,6 +106,14 @@ public class BookingController {
         return ResponseEntity.ok(booking);
     }
 
+    @GetMapping("/reference/{reference}")
+    public ResponseEntity<BookingTrackingDto> trackBooking(
+            @PathVariable UUID reference
+    ) {
+        var tracking = bookingService.trackBooking(reference);
+        return ResponseEntity.ok(tracking);
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<Page<BookingResponseDto>> findBookingsByUser(
             @PathVariable Integer userId,
@@ -54,6 +127,16 @@ public class BookingController {
         return ResponseEntity.ok(bookings);
     }
 
+    @GetMapping(value = "/user/{userId}", params = "cursor")
+    public ResponseEntity<CursorPage<BookingResponseDto>> scrollBookingsByUser(
+            @PathVariable Integer userId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(CursorPage.MAX_SIZE) int pageSize
+    ) {
+        var bookings = bookingService.findBookingsByUser(UserId.of(userId), Cursor.decode(cursor), pageSize);
+        return ResponseEntity.ok(bookings);
+    }
+
     @GetMapping("/event/{eventId}")
     public ResponseEntity<Page<BookingResponseDto>> findBookingsByEvent(
             @PathVariable Long eventId,
@@ -67,6 +150,37 @@ public class BookingController {
         return ResponseEntity.ok(bookings);
     }
 
+    @GetMapping(value = "/event/{eventId}", params = "cursor")
+    public ResponseEntity<CursorPage<BookingResponseDto>> scrollBookingsByEvent(
+            @PathVariable Long eventId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(CursorPage.MAX_SIZE) int pageSize
+    ) {
+        var bookings = bookingService.findBookingsByEvent(EventId.of(eventId), Cursor.decode(cursor), pageSize);
+        return ResponseEntity.ok(bookings);
+    }
+
+    @GetMapping("/event/{eventId}/stats")
+    public ResponseEntity<EventBookingStatsDto> findEventStats(
+            @PathVariable Long eventId
+    ) {
+        var stats = bookingStatsService.findStats(EventId.of(eventId));
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/event/{eventId}/export")
+    public void exportAttendees(
+            @PathVariable Long eventId,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"event-" + eventId + "-attendees." + format.getExtension() + "\"");
+        bookingService.exportAttendees(EventId.of(eventId), format, response.getOutputStream());
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<BookingResponseDto> updateBookingStatus(
             @PathVariable Long id,
@@ -76,6 +190,14 @@ public class BookingController {
         return ResponseEntity.ok(booking);
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<BulkStatusResultDto> updateBookingStatuses(
+            @RequestBody @Valid BulkStatusUpdateDto request
+    ) {
+        var result = bookingService.updateBookingStatuses(request);
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> cancelBooking(
             @PathVariable Long id
@@ -0,0 +1,77 @@
+package com.aymanetech.event.common.application.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the loader on its own
+ * thread and every caller arriving while it runs waits for, and gets, the same result or
+ * exception. Nothing is kept once the load finishes, so this only absorbs bursts; it is
+ * not a cache.
+ * <p>
+ * The shared result is handed to other threads and transactions, so loaders should return
+ * immutable values such as DTOs, never managed entities.
+ */
+public class SingleFlight<K, V> {
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executions;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executions = Counter.builder("singleflight.executions")
+                .description("Loads actually run")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("singleflight.coalesced")
+                .description("Calls served by a load another caller had in flight")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        var flight = new CompletableFuture<V>();
+        var running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        executions.increment();
+        try {
+            var value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Detaches the load in flight for {@code key}, if any, so callers arriving from now on
+     * start a fresh one instead of getting a result read before a write.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            if (e.getCause() instanceof Error cause)
+                throw cause;
+            throw e;
+        }
+    }
+}
@@ -1,18 +1,12 @@
 package com.aymanetech.event.common.application.mapper;
 
+import com.aymanetech.event.common.domain.vo.IdValueObject;
 import org.mapstruct.Mapper;
 
 @Mapper(componentModel = "spring")
 public interface IdValueObjectMapper {
 
-    default Long valueObjectToLong(Object vo) {
-        if (vo == null)
-            return null;
-
-        try {
-            return (Long) vo.getClass().getMethod("value").invoke(vo);
-        } catch (Exception e) {
-            return null;
-        }
+    default Long valueObjectToLong(IdValueObject<?> vo) {
+        return vo == null ? null : vo.value().longValue();
     }
 }
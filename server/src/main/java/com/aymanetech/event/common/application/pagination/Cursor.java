@@ -0,0 +1,35 @@
+package com.aymanetech.event.common.application.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered by {@code (created_at DESC, id DESC)}. Clients only ever
+ * see the {@link #encode() encoded} form and hand it back unchanged.
+ */
+public record Cursor(Instant createdAt, Long id) implements KeysetPosition {
+    private static final Cursor FIRST = new Cursor(Instant.parse("9999-12-31T00:00:00Z"), Long.MAX_VALUE);
+
+    /**
+     * Position before the first row. An empty or missing cursor starts from here.
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return FIRST;
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separator = decoded.lastIndexOf('|');
+            return new Cursor(Instant.parse(decoded.substring(0, separator)), Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    @Override
+    public String encode() {
+        var raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,24 @@
+package com.aymanetech.event.common.application.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A slice of a keyset-paginated listing. {@code nextCursor} is {@code null} on the last slice.
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+    // largest slice a client may ask for; every scroll endpoint validates against it
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Builds a slice from up to {@code size + 1} rows; the extra row only tells whether another slice follows.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, ? extends KeysetPosition> cursorOf, Function<E, T> mapper) {
+        if (size < 1)
+            throw new IllegalArgumentException("Page size must be at least 1");
+        var hasNext = rows.size() > size;
+        var content = hasNext ? rows.subList(0, size) : rows;
+        var nextCursor = hasNext ? cursorOf.apply(content.getLast()).encode() : null;
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor);
+    }
+}
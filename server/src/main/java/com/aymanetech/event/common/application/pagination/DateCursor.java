@@ -0,0 +1,35 @@
+package com.aymanetech.event.common.application.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered by {@code (date ASC, id ASC)}, the chronological
+ * counterpart of {@link Cursor}.
+ */
+public record DateCursor(LocalDateTime date, Long id) implements KeysetPosition {
+    private static final DateCursor FIRST = new DateCursor(LocalDateTime.of(1, 1, 1, 0, 0), Long.MIN_VALUE);
+
+    /**
+     * Position before the first row. An empty or missing cursor starts from here.
+     */
+    public static DateCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return FIRST;
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separator = decoded.lastIndexOf('|');
+            return new DateCursor(LocalDateTime.parse(decoded.substring(0, separator)), Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    @Override
+    public String encode() {
+        var raw = date + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,8 @@
+package com.aymanetech.event.common.application.pagination;
+
+/**
+ * A row's position in a keyset-paginated listing, as handed to clients.
+ */
+public interface KeysetPosition {
+    String encode();
+}
@@ -1,39 +1,65 @@
 package com.aymanetech.event.common.application.service;
 
+import com.aymanetech.event.common.exception.BusinessValidationException;
 import com.aymanetech.event.common.repository.SlugRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 import java.text.Normalizer;
 import java.util.Locale;
 import java.util.regex.Pattern;
 
+/**
+ * Slugs are {@code base}, {@code base-1}, {@code base-2}, ... where the next suffix of each
+ * base comes from an upsert on {@code slug_counters}, one round trip however many
+ * duplicates exist. The counter row stays locked until the caller's transaction ends, so
+ * concurrent creates with the same base get distinct suffixes; a suffix already taken by
+ * a slug that merely looks numbered ("top-10") is skipped, and the unique index on the
+ * slug column stays the final guard.
+ */
 @Service
 public class DefaultSlugService implements SlugService {
     private static final Pattern NON_LATIN = Pattern.compile("[^\\w-]");
     private static final Pattern WHITESPACE = Pattern.compile("[\\s]");
+    private static final int MAX_BASE_LENGTH = 240;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final String NEXT_SUFFIX = """
+            INSERT INTO slug_counters AS c (scope, base_slug, last_suffix)
+            VALUES (?, ?, 0)
+            ON CONFLICT (scope, base_slug) DO UPDATE SET last_suffix = c.last_suffix + 1
+            RETURNING last_suffix
+            """;
 
-    private SlugRepository repository;
+    private final JdbcTemplate jdbcTemplate;
 
-    @Override
-    public <T> void setRepository(SlugRepository<T> repository) {
-        this.repository = repository;
+    public DefaultSlugService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
-    public String generateUniqueSlug(String source) {
-        var slug = toSlug(source);
-        var uniqueSlug = slug;
-        int counter = 1;
-        while (repository.existsBySlug(uniqueSlug)) {
-            uniqueSlug = slug + "-" + counter++;
-        }
-        return uniqueSlug;
+    public SlugAllocator allocatorFor(String scope, SlugRepository<?> repository) {
+        return source -> allocate(scope, repository, source);
     }
 
+    @Override
     public String toSlug(String input) {
         var noWhitespace = WHITESPACE.matcher(input).replaceAll("-");
         var normalized = Normalizer.normalize(noWhitespace, Normalizer.Form.NFD);
         var slug = NON_LATIN.matcher(normalized).replaceAll("");
         return slug.toLowerCase(Locale.ENGLISH);
     }
-}
\ No newline at end of file
+
+    private String allocate(String scope, SlugRepository<?> repository, String source) {
+        var base = toSlug(source);
+        if (base.length() > MAX_BASE_LENGTH)
+            base = base.substring(0, MAX_BASE_LENGTH);
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            var suffix = jdbcTemplate.queryForObject(NEXT_SUFFIX, Integer.class, scope, base);
+            var slug = suffix == 0 ? base : base + "-" + suffix;
+            if (!repository.existsBySlug(slug))
+                return slug;
+        }
+        throw new BusinessValidationException("Could not find a free slug for '" + source + "'");
+    }
+}
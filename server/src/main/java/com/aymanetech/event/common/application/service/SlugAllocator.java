@@ -0,0 +1,9 @@
+package com.aymanetech.event.common.application.service;
+
+/**
+ * Hands out unique slugs for one kind of entity.
+ */
+@FunctionalInterface
+public interface SlugAllocator {
+    String allocate(String source);
+}
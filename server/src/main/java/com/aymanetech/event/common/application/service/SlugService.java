@@ -3,7 +3,11 @@ package com.aymanetech.event.common.application.service;
 import com.aymanetech.event.common.repository.SlugRepository;
 
 public interface SlugService {
-    <T> void setRepository(SlugRepository<T> repository);
+    /**
+     * @param scope      name the slugs of this entity are counted under, usually its table
+     * @param repository where the allocated slugs end up, checked for slugs taken outside the allocator
+     */
+    SlugAllocator allocatorFor(String scope, SlugRepository<?> repository);
 
-    String generateUniqueSlug(String source);
+    String toSlug(String source);
 }
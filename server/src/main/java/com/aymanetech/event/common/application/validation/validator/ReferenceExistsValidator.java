@@ -7,22 +7,40 @@ import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.InvocationTargetException;
-
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Checks the reference with {@link EntityManager#find}, a primary key lookup like the
+ * count it replaces, but one that leaves the entity in the request's persistence context:
+ * the service loading the same id afterwards gets it back without a query.
+ */
 @Component
 @RequiredArgsConstructor
 public class ReferenceExistsValidator implements ConstraintValidator<ReferenceExists, Long> {
 
-    private static final String FIELD_NAME = "id";
+    private static final ClassValue<MethodHandle> ID_CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> idClass) {
+            try {
+                return MethodHandles.publicLookup()
+                        .findConstructor(idClass, MethodType.methodType(void.class, Long.class))
+                        .asType(MethodType.methodType(Object.class, Long.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalStateException(idClass.getName() + " has no public (Long) constructor", e);
+            }
+        }
+    };
 
     private final EntityManager entityManager;
     private Class<?> entityClass;
-    private Class<?> idClass;
+    private MethodHandle idConstructor;
 
     @Override
     public void initialize(ReferenceExists constraintAnnotation) {
         entityClass = constraintAnnotation.entityClass();
-        idClass = constraintAnnotation.idClass();
+        idConstructor = ID_CONSTRUCTORS.get(constraintAnnotation.idClass());
     }
 
     @Override
@@ -30,24 +48,14 @@ public class ReferenceExistsValidator implements ConstraintValidator<ReferenceEx
         if (value == null)
             return true;
 
-        String queryStr = String.format(
-                "SELECT COUNT(e) FROM %s e WHERE e.id = :value",
-                entityClass.getSimpleName()
-        );
-
-        Long count = entityManager.createQuery(queryStr, Long.class)
-                .setParameter("value", getId(value))
-                .getSingleResult();
-        return count > 0;
+        return entityManager.find(entityClass, getId(value)) != null;
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> T getId(Long id) {
+    private Object getId(Long id) {
         try {
-            return (T) idClass.getConstructor(Long.class).newInstance(id);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-                 NoSuchMethodException e) {
-            throw new RuntimeException(e);
+            return idConstructor.invokeExact(id);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
         }
     }
 }
@@ -7,33 +7,30 @@ import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-
+/**
+ * The query is built once per constraint and stops at the first match; the LOWER(...)
+ * comparison is served by the functional indexes on the constrained columns.
+ */
 @Component
 @RequiredArgsConstructor
 public class UniqueFieldValidator implements ConstraintValidator<UniqueField, Object> {
     private final EntityManager entityManager;
-    private Class<?> entityClass;
-    private String fieldName;
+    private String query;
 
     @Override
     public void initialize(UniqueField constraintAnnotation) {
-        entityClass = constraintAnnotation.entityClass();
-        fieldName = constraintAnnotation.fieldName();
+        query = "SELECT 1 FROM %s e WHERE LOWER(e.%s) = LOWER(:value)"
+                .formatted(constraintAnnotation.entityClass().getSimpleName(), constraintAnnotation.fieldName());
     }
 
     @Override
     public boolean isValid(Object value, ConstraintValidatorContext context) {
         if (value == null) return true;
 
-        final String queryStr = String.format(
-                "SELECT COUNT(e) FROM %s e WHERE LOWER(e.%s) = LOWER(:value)",
-                entityClass.getSimpleName(), fieldName
-        );
-
-        Long count = entityManager.createQuery(queryStr, Long.class)
+        return entityManager.createQuery(query, Integer.class)
                 .setParameter("value", value)
-                .getSingleResult();
-
-        return count == 0;
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
     }
 }
@@ -0,0 +1,8 @@
+package com.aymanetech.event.common.domain.vo;
+
+/**
+ * Typed identifier wrapping a numeric database id, e.g. {@code EventId}.
+ */
+public interface IdValueObject<T extends Number> {
+    T value();
+}
@@ -1,5 +1,6 @@
 package com.aymanetech.event.common.web;
 
+import com.aymanetech.event.common.exception.BusinessValidationException;
 import com.aymanetech.event.common.exception.ResourceNotFoundException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -40,6 +42,21 @@ public class GlobalExceptionHandler {
                 errors);
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleMethodValidationExceptions(final HandlerMethodValidationException ex, WebRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getParameterValidationResults().forEach(result -> result.getResolvableErrors().forEach(error ->
+                errors.put(result.getMethodParameter().getParameterName(), error.getDefaultMessage())));
+
+        return new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                LocalDateTime.now(),
+                VALIDATION_FAILED_MESSAGE,
+                request.getDescription(false),
+                errors);
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse dataIntegrityViolation(DataIntegrityViolationException e, WebRequest request) {
@@ -64,6 +81,18 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(BusinessValidationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse businessValidationException(final BusinessValidationException ex, WebRequest request) {
+        return new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                LocalDateTime.now(),
+                VALIDATION_FAILED_MESSAGE,
+                request.getDescription(false),
+                ex.getMessage()
+        );
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse entityCreationException(final ResourceNotFoundException ex, WebRequest request) {
@@ -0,0 +1,13 @@
+package com.aymanetech.event.event.application.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the {@link EventDetailsCache}: at most {@code maximumSize} events are
+ * kept, the least likely to be reused are evicted first.
+ */
+@ConfigurationProperties("app.events.details-cache")
+public record EventCacheProperties(
+        long maximumSize
+) {
+}
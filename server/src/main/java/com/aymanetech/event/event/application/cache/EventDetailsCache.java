@@ -0,0 +1,102 @@
+package com.aymanetech.event.event.application.cache;
+
+import com.aymanetech.event.common.application.concurrency.SingleFlight;
+import com.aymanetech.event.event.application.dto.response.EventResponseDto;
+import com.aymanetech.event.event.domain.repository.EventRepository;
+import com.aymanetech.event.event.domain.vo.CategoryId;
+import com.aymanetech.event.event.domain.vo.EventId;
+import com.aymanetech.event.user.application.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of event details. Writers invalidate twice: right away, and once
+ * their transaction completes, so a reader that loaded the old row while the write was
+ * in flight can neither have cached it before completion nor cache it afterwards: every
+ * invalidation bumps a generation and a load is only cached if no invalidation happened
+ * while it ran.
+ * <p>
+ * Concurrent misses of the same event share one load through a {@link SingleFlight}, and
+ * only the caller that ran it may cache the result.
+ * <p>
+ * Hits, misses and evictions are published as the {@code cache.*} meters tagged
+ * {@code cache=event.details}.
+ */
+@Component
+public class EventDetailsCache {
+    private final Cache<EventId, EventResponseDto> cache;
+    private final SingleFlight<EventId, EventResponseDto> flights;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final EventRepository eventRepository;
+
+    public EventDetailsCache(EventCacheProperties properties, EventRepository eventRepository, MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "event.details");
+        this.flights = new SingleFlight<>("event.details", meterRegistry);
+    }
+
+    public EventResponseDto get(EventId id, Supplier<EventResponseDto> loader) {
+        var cached = cache.getIfPresent(id);
+        if (cached != null)
+            return cached;
+        return flights.execute(id, () -> load(id, loader));
+    }
+
+    public void invalidate(EventId id) {
+        invalidate(List.of(id));
+    }
+
+    public void invalidate(Collection<EventId> ids) {
+        evict(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(ids);
+                }
+            });
+    }
+
+    public void invalidateCategory(CategoryId categoryId) {
+        invalidate(eventRepository.findIdsByCategoryId(categoryId).stream().map(EventId::of).toList());
+    }
+
+    // organizer names are embedded in the cached details
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(eventRepository.findIdsByOrganiserId(event.userId()).stream().map(EventId::of).toList());
+    }
+
+    private EventResponseDto load(EventId id, Supplier<EventResponseDto> loader) {
+        var generation = invalidations.get();
+        var loaded = loader.get();
+        if (invalidations.get() == generation) {
+            cache.put(id, loaded);
+            // an invalidation may have slipped in between the check and the put
+            if (invalidations.get() != generation)
+                cache.asMap().remove(id, loaded);
+        }
+        return loaded;
+    }
+
+    private void evict(Collection<EventId> ids) {
+        invalidations.incrementAndGet();
+        cache.invalidateAll(ids);
+        ids.forEach(flights::forget);
+    }
+}
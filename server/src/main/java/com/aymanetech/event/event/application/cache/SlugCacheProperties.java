@@ -0,0 +1,12 @@
+package com.aymanetech.event.event.application.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the {@link SlugIdCache}s: each keeps at most {@code maximumSize} slugs.
+ */
+@ConfigurationProperties("app.events.slug-cache")
+public record SlugCacheProperties(
+        long maximumSize
+) {
+}
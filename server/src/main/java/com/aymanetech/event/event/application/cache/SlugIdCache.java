@@ -0,0 +1,51 @@
+package com.aymanetech.event.event.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded slug to id map in front of the slug lookups. Unknown slugs are not remembered,
+ * so probing random slugs cannot flush the useful entries.
+ * <p>
+ * Writers evict a slug they replace right away and again once their transaction
+ * completes. An entry can still go stale if a reader loaded it just before the commit,
+ * so callers compare the slug of the entity they end up with and {@link #evict} on a
+ * mismatch.
+ */
+public class SlugIdCache {
+    private final Cache<String, Long> cache;
+
+    public SlugIdCache(String name, long maximumSize, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public Optional<Long> resolve(String slug, Function<String, Optional<Long>> loader) {
+        return Optional.ofNullable(cache.get(slug, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void evict(String slug) {
+        cache.invalidate(slug);
+    }
+
+    public void evictOnCompletion(String slug) {
+        cache.invalidate(slug);
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(slug);
+                }
+            });
+    }
+}
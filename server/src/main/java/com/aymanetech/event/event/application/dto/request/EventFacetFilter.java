@@ -0,0 +1,14 @@
+package com.aymanetech.event.event.application.dto.request;
+
+import com.aymanetech.event.event.domain.vo.BookingType;
+import com.aymanetech.event.event.domain.vo.DateBucket;
+import com.aymanetech.event.event.domain.vo.PriceBand;
+
+public record EventFacetFilter(
+        Long categoryId,
+        PriceBand priceBand,
+        DateBucket dateBucket,
+        BookingType bookingType,
+        Boolean verified
+) {
+}
@@ -6,6 +6,9 @@ import com.aymanetech.event.event.domain.entity.Category;
 import com.aymanetech.event.event.domain.entity.Event;
 import com.aymanetech.event.event.domain.vo.BookingType;
 import com.aymanetech.event.event.domain.vo.CategoryId;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -21,9 +24,16 @@ public record EventRequestDto(
         @NotNull @Positive BigDecimal price,
         @NotNull LocalDateTime date,
         @NotBlank String location,
+        @DecimalMin("-90") @DecimalMax("90") Double latitude,
+        @DecimalMin("-180") @DecimalMax("180") Double longitude,
         BookingType bookingType,
         @NotNull @ReferenceExists(entityClass = Category.class, idClass = CategoryId.class, message = "Category not found") Long categoryId,
         @NotNull Integer userId,
         @NotNull MultipartFile image
 ) {
+    // chk_events_coordinates takes both or neither
+    @AssertTrue(message = "Latitude and longitude must be given together")
+    public boolean isCoordinatesComplete() {
+        return (latitude == null) == (longitude == null);
+    }
 }
@@ -0,0 +1,14 @@
+package com.aymanetech.event.event.application.dto.response;
+
+import com.aymanetech.event.event.domain.vo.BookingType;
+import com.aymanetech.event.event.domain.vo.DateBucket;
+import com.aymanetech.event.event.domain.vo.PriceBand;
+
+import java.util.Map;
+
+public record EventFacetsDto(Map<Long, Long> categories,
+                             Map<PriceBand, Long> priceBands,
+                             Map<DateBucket, Long> dateBuckets,
+                             Map<BookingType, Long> bookingTypes,
+                             Map<Boolean, Long> verified) {
+}
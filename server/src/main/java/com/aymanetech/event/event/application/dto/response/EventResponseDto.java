@@ -17,6 +17,8 @@ public record EventResponseDto(@NotNull Long id,
                                @NotNull BigDecimal price,
                                @NotNull LocalDateTime date,
                                @NotBlank String location,
+                               Double latitude,
+                               Double longitude,
                                BookingType bookingType,
                                @NotNull NestedCategory category,
                                @NotNull NestedUser organiser,
@@ -0,0 +1,7 @@
+package com.aymanetech.event.event.application.dto.response;
+
+import org.springframework.data.domain.Page;
+
+public record FacetedEventsDto(Page<EventResponseDto> events,
+                               EventFacetsDto facets) {
+}
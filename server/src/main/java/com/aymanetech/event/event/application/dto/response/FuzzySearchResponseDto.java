@@ -0,0 +1,7 @@
+package com.aymanetech.event.event.application.dto.response;
+
+import java.util.List;
+
+public record FuzzySearchResponseDto(List<TitleMatchDto> events,
+                                     List<TitleMatchDto> categories) {
+}
@@ -0,0 +1,5 @@
+package com.aymanetech.event.event.application.dto.response;
+
+public record NearbyEventDto(EventResponseDto event,
+                             double distanceKm) {
+}
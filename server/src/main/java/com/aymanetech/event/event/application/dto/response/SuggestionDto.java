@@ -0,0 +1,8 @@
+package com.aymanetech.event.event.application.dto.response;
+
+import com.aymanetech.event.event.application.suggest.SuggestionType;
+
+public record SuggestionDto(SuggestionType type,
+                            Long id,
+                            String text) {
+}
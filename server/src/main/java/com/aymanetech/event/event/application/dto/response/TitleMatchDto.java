@@ -0,0 +1,6 @@
+package com.aymanetech.event.event.application.dto.response;
+
+public record TitleMatchDto(Long id,
+                            String name,
+                            double score) {
+}
@@ -0,0 +1,9 @@
+package com.aymanetech.event.event.application.event;
+
+import com.aymanetech.event.event.domain.vo.EventId;
+
+/**
+ * Published, inside the writing transaction, when an event is updated or deleted.
+ */
+public record EventChangedEvent(EventId eventId) {
+}
@@ -0,0 +1,27 @@
+package com.aymanetech.event.event.application.geo;
+
+/**
+ * Latitude/longitude rectangle enclosing a circle on the earth, used to narrow a radius
+ * search to an index range scan before the exact great-circle distance is computed.
+ * Circles reaching a pole or crossing the antimeridian get the full longitude span,
+ * which keeps the box a superset of the circle at the cost of selectivity.
+ */
+public record GeoBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    public static GeoBox around(double latitude, double longitude, double radiusKm) {
+        var latitudeDelta = radiusKm / KM_PER_DEGREE;
+        var minLatitude = latitude - latitudeDelta;
+        var maxLatitude = latitude + latitudeDelta;
+        if (minLatitude <= -90 || maxLatitude >= 90)
+            return new GeoBox(Math.max(minLatitude, -90), -180, Math.min(maxLatitude, 90), 180);
+
+        var longitudeDelta = Math.toDegrees(Math.asin(Math.sin(radiusKm / EARTH_RADIUS_KM) / Math.cos(Math.toRadians(latitude))));
+        var minLongitude = longitude - longitudeDelta;
+        var maxLongitude = longitude + longitudeDelta;
+        if (minLongitude < -180 || maxLongitude > 180)
+            return new GeoBox(minLatitude, -180, maxLatitude, 180);
+        return new GeoBox(minLatitude, minLongitude, maxLatitude, maxLongitude);
+    }
+}
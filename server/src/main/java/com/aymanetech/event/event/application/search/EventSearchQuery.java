@@ -0,0 +1,30 @@
+package com.aymanetech.event.event.application.search;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Turns free text into a Postgres tsquery that prefix-matches every word, e.g.
+ * {@code "Jazz fest"} becomes {@code "jazz:* & fest:*"}. Anything but letters and
+ * digits separates words, so user input can never break the tsquery syntax.
+ */
+public final class EventSearchQuery {
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERMS = 16;
+
+    private EventSearchQuery() {
+    }
+
+    public static Optional<String> toPrefixTsQuery(String text) {
+        if (text == null)
+            return Optional.empty();
+
+        var terms = WORD_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .map(term -> term + ":*")
+                .toList();
+        return terms.isEmpty() ? Optional.empty() : Optional.of(String.join(" & ", terms));
+    }
+}
@@ -0,0 +1,92 @@
+package com.aymanetech.event.event.application.search;
+
+import com.aymanetech.event.event.application.dto.response.FuzzySearchResponseDto;
+import com.aymanetech.event.event.application.dto.response.TitleMatchDto;
+import com.aymanetech.event.event.domain.repository.CategoryRepository;
+import com.aymanetech.event.event.domain.repository.EventRepository;
+import com.aymanetech.event.event.domain.vo.CategoryId;
+import com.aymanetech.event.event.domain.vo.EventId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Typo-tolerant search over event titles and category names, answered from two
+ * {@link TrigramIndex}es without going to the database. Loaded once on startup and kept
+ * current by the event and category services. Their changes are applied once the writing
+ * transaction commits, so a rolled-back write never shows up in the index.
+ */
+@Slf4j
+@Component
+public class EventTitleIndex {
+    private static final double MIN_SIMILARITY = 0.3;
+
+    private final TrigramIndex events = new TrigramIndex(MIN_SIMILARITY);
+    private final TrigramIndex categories = new TrigramIndex(MIN_SIMILARITY);
+    private final EventRepository eventRepository;
+    private final CategoryRepository categoryRepository;
+
+    public EventTitleIndex(EventRepository eventRepository, CategoryRepository categoryRepository) {
+        this.eventRepository = eventRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        events.clear();
+        eventRepository.findAllTitles().forEach(event -> events.put(event.id(), event.name()));
+        categories.clear();
+        categoryRepository.findAllNames().forEach(category -> categories.put(category.id(), category.name()));
+        log.info("Indexed {} event titles and {} category names", events.liveSize(), categories.liveSize());
+    }
+
+    public FuzzySearchResponseDto search(String query, int limit) {
+        return new FuzzySearchResponseDto(toDtos(events.search(query, limit)), toDtos(categories.search(query, limit)));
+    }
+
+    public void indexEvent(EventId id, String title) {
+        afterCommit(() -> events.put(id.value(), title));
+    }
+
+    public void removeEvent(EventId id) {
+        afterCommit(() -> events.remove(id.value()));
+    }
+
+    public void indexCategory(CategoryId id, String name) {
+        afterCommit(() -> categories.put(id.value(), name));
+    }
+
+    // events of the category go with it through ON DELETE CASCADE
+    public void removeCategory(CategoryId id, Collection<Long> eventIds) {
+        var removedEventIds = List.copyOf(eventIds);
+        afterCommit(() -> {
+            categories.remove(id.value());
+            removedEventIds.forEach(events::remove);
+        });
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private static List<TitleMatchDto> toDtos(List<TrigramIndex.Match> matches) {
+        return matches.stream()
+                .map(match -> new TitleMatchDto(match.id(), match.text(), match.score()))
+                .toList();
+    }
+}
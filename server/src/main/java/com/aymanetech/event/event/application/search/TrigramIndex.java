@@ -0,0 +1,224 @@
+package com.aymanetech.event.event.application.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index over short texts keyed by a numeric id. Every text
+ * gets an int ordinal and each trigram maps to an append-only, sorted int array of the
+ * ordinals containing it. Replacing or removing a text only tombstones its ordinal; the
+ * postings are rebuilt once tombstones outnumber the live texts.
+ * <p>
+ * Trigrams follow pg_trgm: texts are lowercased, split into words and every word is
+ * padded with two leading and one trailing blank, so {@code "cat"} yields
+ * {@code "  c", " ca", "cat", "at "}. Matches are ranked by the Dice coefficient of the
+ * two trigram sets, which keeps a one-letter typo in a word of five or more letters well
+ * above the default threshold.
+ */
+public class TrigramIndex {
+    private final double minSimilarity;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<int[]> sharedCounts = ThreadLocal.withInitial(() -> new int[0]);
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+    private final BitSet removed = new BitSet();
+    private long[] ids = new long[64];
+    private String[] texts = new String[64];
+    private int[] trigramCounts = new int[64];
+    private int size;
+    private int removedCount;
+
+    public TrigramIndex(double minSimilarity) {
+        this.minSimilarity = minSimilarity;
+    }
+
+    public record Match(long id, String text, double score) {
+    }
+
+    public void put(long id, String text) {
+        lock.writeLock().lock();
+        try {
+            tombstone(id);
+            append(id, text);
+            if (removedCount > size - removedCount)
+                compact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            tombstone(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            ordinalsById.clear();
+            removed.clear();
+            size = 0;
+            removedCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int liveSize() {
+        lock.readLock().lock();
+        try {
+            return ordinalsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} texts whose similarity to {@code query} reaches the
+     * index threshold, best first.
+     */
+    public List<Match> search(String query, int limit) {
+        var queryTrigrams = trigrams(query);
+        if (queryTrigrams.length == 0 || limit <= 0)
+            return List.of();
+
+        lock.readLock().lock();
+        try {
+            var shared = sharedCounts(size);
+            var touched = new Postings();
+            for (var trigram : queryTrigrams) {
+                var list = postings.get(trigram);
+                if (list == null)
+                    continue;
+                for (int i = 0; i < list.size; i++) {
+                    var ordinal = list.values[i];
+                    if (shared[ordinal]++ == 0)
+                        touched.add(ordinal);
+                }
+            }
+
+            var best = new PriorityQueue<Match>(limit + 1, Comparator.comparingDouble(Match::score));
+            for (int i = 0; i < touched.size; i++) {
+                var ordinal = touched.values[i];
+                var score = 2.0 * shared[ordinal] / (queryTrigrams.length + trigramCounts[ordinal]);
+                shared[ordinal] = 0;
+                if (score < minSimilarity || removed.get(ordinal))
+                    continue;
+                best.offer(new Match(ids[ordinal], texts[ordinal], score));
+                if (best.size() > limit)
+                    best.poll();
+            }
+
+            var matches = new ArrayList<>(best);
+            matches.sort(Comparator.comparingDouble(Match::score).reversed());
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static long[] trigrams(String text) {
+        if (text == null)
+            return new long[0];
+
+        var keys = new long[text.length() * 3 + 3];
+        var count = 0;
+        for (var word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty())
+                continue;
+            var padded = "  " + word + " ";
+            if (count + padded.length() > keys.length)
+                keys = Arrays.copyOf(keys, (count + padded.length()) * 2);
+            for (int i = 0; i + 3 <= padded.length(); i++)
+                keys[count++] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+
+        Arrays.sort(keys, 0, count);
+        var distinct = 0;
+        for (int i = 0; i < count; i++)
+            if (i == 0 || keys[i] != keys[i - 1])
+                keys[distinct++] = keys[i];
+        return Arrays.copyOf(keys, distinct);
+    }
+
+    private void append(long id, String text) {
+        var ordinal = size++;
+        if (ordinal == ids.length) {
+            ids = Arrays.copyOf(ids, ordinal * 2);
+            texts = Arrays.copyOf(texts, ordinal * 2);
+            trigramCounts = Arrays.copyOf(trigramCounts, ordinal * 2);
+        }
+
+        var keys = trigrams(text);
+        ids[ordinal] = id;
+        texts[ordinal] = text;
+        trigramCounts[ordinal] = keys.length;
+        ordinalsById.put(id, ordinal);
+        for (var key : keys)
+            postings.computeIfAbsent(key, k -> new Postings()).add(ordinal);
+    }
+
+    private void tombstone(long id) {
+        var ordinal = ordinalsById.remove(id);
+        if (ordinal != null) {
+            removed.set(ordinal);
+            texts[ordinal] = null;
+            removedCount++;
+        }
+    }
+
+    private void compact() {
+        var liveIds = new long[ordinalsById.size()];
+        var liveTexts = new String[liveIds.length];
+        var next = 0;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (removed.get(ordinal))
+                continue;
+            liveIds[next] = ids[ordinal];
+            liveTexts[next++] = texts[ordinal];
+        }
+
+        postings.clear();
+        ordinalsById.clear();
+        removed.clear();
+        size = 0;
+        removedCount = 0;
+        for (int i = 0; i < liveIds.length; i++)
+            append(liveIds[i], liveTexts[i]);
+    }
+
+    private int[] sharedCounts(int capacity) {
+        var counts = sharedCounts.get();
+        if (counts.length < capacity) {
+            counts = new int[Math.max(capacity, counts.length * 2)];
+            sharedCounts.set(counts);
+        }
+        return counts;
+    }
+
+    private static final class Postings {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+    }
+}
@@ -12,6 +12,8 @@ public interface CategoryService {
 
     CategoryResponseDto findCategoryById(CategoryId id);
 
+    CategoryResponseDto findCategoryBySlug(String slug);
+
     CategoryResponseDto createCategory(CategoryRequestDto request);
 
     CategoryResponseDto updateCategory(CategoryId id, CategoryRequestDto request);
@@ -1,7 +1,13 @@
 package com.aymanetech.event.event.application.service;
 
+import com.aymanetech.event.common.application.pagination.Cursor;
+import com.aymanetech.event.common.application.pagination.CursorPage;
+import com.aymanetech.event.common.application.pagination.DateCursor;
+import com.aymanetech.event.event.application.dto.request.EventFacetFilter;
 import com.aymanetech.event.event.application.dto.request.EventRequestDto;
 import com.aymanetech.event.event.application.dto.response.EventResponseDto;
+import com.aymanetech.event.event.application.dto.response.FacetedEventsDto;
+import com.aymanetech.event.event.application.dto.response.NearbyEventDto;
 import com.aymanetech.event.event.domain.entity.Event;
 import com.aymanetech.event.event.domain.vo.BookingType;
 import com.aymanetech.event.event.domain.vo.EventId;
@@ -9,16 +15,30 @@ import com.aymanetech.event.user.domain.vo.UserId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+
 
 public interface EventService {
     Page<EventResponseDto> findAllEvents(Pageable pageable);
 
+    CursorPage<EventResponseDto> findAllEvents(Cursor cursor, int size);
+
+    CursorPage<EventResponseDto> findUpcomingEvents(LocalDateTime from, LocalDateTime to, DateCursor cursor, int size);
+
     EventResponseDto findEventById(EventId id);
 
+    EventResponseDto findEventBySlug(String slug);
+
     Page<EventResponseDto> findAllEventsByOrganizerId(UserId organizerId, Pageable pageable);
 
+    CursorPage<EventResponseDto> findAllEventsByOrganizerId(UserId organizerId, Cursor cursor, int size);
+
     Page<EventResponseDto> searchEventsByTitle(String title, Pageable pageable);
 
+    FacetedEventsDto browseEvents(EventFacetFilter filter, Pageable pageable);
+
+    Page<NearbyEventDto> findEventsNearby(double latitude, double longitude, double radiusKm, Pageable pageable);
+
     EventResponseDto createEvent(EventRequestDto request);
 
     EventResponseDto updateEvent(EventId id, EventRequestDto request);
@@ -0,0 +1,16 @@
+package com.aymanetech.event.event.application.service;
+
+import com.aymanetech.event.event.domain.vo.EventId;
+
+public interface SeatInventoryService {
+
+    void reserveSeats(EventId eventId, int seats);
+
+    boolean tryReserveSeats(EventId eventId, int seats);
+
+    void releaseSeats(EventId eventId, int seats);
+
+    void resizeInventory(EventId eventId, int previousNumberOfSeats, int numberOfSeats);
+
+    int findAvailableSeats(EventId eventId);
+}
@@ -1,15 +1,29 @@
 package com.aymanetech.event.event.application.service.impl;
 
+import com.aymanetech.event.common.application.concurrency.SingleFlight;
 import com.aymanetech.event.common.application.service.ApplicationService;
+import com.aymanetech.event.common.application.service.SlugAllocator;
 import com.aymanetech.event.common.application.service.SlugService;
 import com.aymanetech.event.common.exception.ResourceNotFoundException;
+import com.aymanetech.event.event.application.cache.EventDetailsCache;
+import com.aymanetech.event.event.application.cache.SlugCacheProperties;
+import com.aymanetech.event.event.application.cache.SlugIdCache;
 import com.aymanetech.event.event.application.dto.request.CategoryRequestDto;
 import com.aymanetech.event.event.application.dto.response.CategoryResponseDto;
 import com.aymanetech.event.event.application.mapper.CategoryMapper;
+import com.aymanetech.event.event.application.search.EventTitleIndex;
 import com.aymanetech.event.event.application.service.CategoryService;
+import com.aymanetech.event.event.application.suggest.EventSuggester;
 import com.aymanetech.event.event.domain.entity.Category;
 import com.aymanetech.event.event.domain.repository.CategoryRepository;
+import com.aymanetech.event.event.domain.repository.EventRepository;
 import com.aymanetech.event.event.domain.vo.CategoryId;
+import com.aymanetech.event.event.domain.vo.EventId;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -17,13 +31,27 @@ import java.util.List;
 public class DefaultCategoryService implements CategoryService {
     private final CategoryRepository repository;
     private final CategoryMapper mapper;
-    private final SlugService slugService;
+    private final SlugAllocator slugAllocator;
+    private final EventRepository eventRepository;
+    private final EventTitleIndex titleIndex;
+    private final EventSuggester suggester;
+    private final EventDetailsCache detailsCache;
+    private final SingleFlight<CategoryId, CategoryResponseDto> flights;
+    private final SlugIdCache slugIds;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public DefaultCategoryService(CategoryRepository repository, CategoryMapper mapper, SlugService slugService) {
+    public DefaultCategoryService(CategoryRepository repository, CategoryMapper mapper, SlugService slugService, EventRepository eventRepository, EventTitleIndex titleIndex, EventSuggester suggester, EventDetailsCache detailsCache, SlugCacheProperties slugCacheProperties, MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
         this.repository = repository;
         this.mapper = mapper;
-        this.slugService = slugService;
-        this.slugService.setRepository(repository);
+        this.eventRepository = eventRepository;
+        this.titleIndex = titleIndex;
+        this.suggester = suggester;
+        this.detailsCache = detailsCache;
+        this.flights = new SingleFlight<>("category", meterRegistry);
+        this.slugIds = new SlugIdCache("category.slugs", slugCacheProperties.maximumSize(), meterRegistry);
+        this.slugAllocator = slugService.allocatorFor("categories", repository);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
 
@@ -35,33 +63,66 @@ public class DefaultCategoryService implements CategoryService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CategoryResponseDto findCategoryById(CategoryId id) {
-        return repository.findById(id)
+        return flights.execute(id, () -> readOnlyTransaction.execute(status -> repository.findById(id)
                 .map(mapper::toResponseDto)
-                .orElseThrow(() -> new ResourceNotFoundException("Category", id.value()));
+                .orElseThrow(() -> new ResourceNotFoundException("Category", id.value()))));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CategoryResponseDto findCategoryBySlug(String slug) {
+        var id = slugIds.resolve(slug, repository::findIdBySlug)
+                .orElseThrow(() -> new ResourceNotFoundException("Category with slug " + slug + " not found"));
+        var category = findCategoryById(CategoryId.of(id));
+        if (category.slug().equals(slug))
+            return category;
+
+        // the id was cached just before the category got a new slug
+        slugIds.evict(slug);
+        return repository.findIdBySlug(slug)
+                .map(freshId -> findCategoryById(CategoryId.of(freshId)))
+                .orElseThrow(() -> new ResourceNotFoundException("Category with slug " + slug + " not found"));
     }
 
     @Override
     public CategoryResponseDto createCategory(CategoryRequestDto request) {
         final var category = mapper.toEntity(request);
-        category.setSlug(slugService.generateUniqueSlug(request.name()));
+        category.setSlug(slugAllocator.allocate(request.name()));
         final var savedCategory = repository.save(category);
+        titleIndex.indexCategory(savedCategory.getId(), savedCategory.getName());
+        suggester.markStale();
         return mapper.toResponseDto(savedCategory);
     }
 
     @Override
     public CategoryResponseDto updateCategory(CategoryId id, CategoryRequestDto request) {
         final var category = findCategoryEntityById(id);
+        final var nameChanged = !category.getName().equals(request.name());
         mapper.updateEntity(category, request);
-        category.setSlug(slugService.generateUniqueSlug(request.name()));
+        if (nameChanged) {
+            slugIds.evictOnCompletion(category.getSlug());
+            category.setSlug(slugAllocator.allocate(request.name()));
+        }
+        titleIndex.indexCategory(id, category.getName());
+        suggester.markStale();
+        detailsCache.invalidateCategory(id);
+        flights.forget(id);
         return mapper.toResponseDto(category);
     }
 
     @Override
     public void deleteCategory(CategoryId id) {
-        if (!repository.existsById(id))
-            throw new ResourceNotFoundException("Category", id.value());
+        var slug = repository.findSlugById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", id.value()));
+        var eventIds = eventRepository.findIdsByCategoryId(id);
         repository.deleteById(id);
+        titleIndex.removeCategory(id, eventIds);
+        suggester.markStale();
+        detailsCache.invalidate(eventIds.stream().map(EventId::of).toList());
+        flights.forget(id);
+        slugIds.evictOnCompletion(slug);
     }
 
     @Override
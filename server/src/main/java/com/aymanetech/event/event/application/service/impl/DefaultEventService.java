@@ -1,41 +1,100 @@
 package com.aymanetech.event.event.application.service.impl;
 
+import com.aymanetech.event.common.application.pagination.Cursor;
+import com.aymanetech.event.common.application.pagination.CursorPage;
+import com.aymanetech.event.common.application.pagination.DateCursor;
 import com.aymanetech.event.common.application.service.ApplicationService;
+import com.aymanetech.event.common.application.service.SlugAllocator;
 import com.aymanetech.event.common.application.service.SlugService;
 import com.aymanetech.event.common.exception.ResourceNotFoundException;
+import com.aymanetech.event.event.application.cache.EventDetailsCache;
+import com.aymanetech.event.event.application.cache.SlugCacheProperties;
+import com.aymanetech.event.event.application.cache.SlugIdCache;
+import com.aymanetech.event.event.application.dto.request.EventFacetFilter;
+import com.aymanetech.event.event.application.event.EventChangedEvent;
 import com.aymanetech.event.event.application.dto.request.EventRequestDto;
+import com.aymanetech.event.event.application.dto.response.EventFacetsDto;
 import com.aymanetech.event.event.application.dto.response.EventResponseDto;
+import com.aymanetech.event.event.application.dto.response.FacetedEventsDto;
+import com.aymanetech.event.event.application.dto.response.NearbyEventDto;
+import com.aymanetech.event.event.application.geo.GeoBox;
 import com.aymanetech.event.event.application.mapper.EventMapper;
+import com.aymanetech.event.event.application.search.EventSearchQuery;
+import com.aymanetech.event.event.application.search.EventTitleIndex;
 import com.aymanetech.event.event.application.service.CategoryService;
 import com.aymanetech.event.event.application.service.EventService;
 import com.aymanetech.event.event.application.service.FileUploader;
+import com.aymanetech.event.event.application.service.SeatInventoryService;
+import com.aymanetech.event.event.application.suggest.EventSuggester;
 import com.aymanetech.event.event.domain.entity.Event;
 import com.aymanetech.event.event.domain.repository.EventRepository;
 import com.aymanetech.event.event.domain.vo.BookingType;
 import com.aymanetech.event.event.domain.vo.CategoryId;
+import com.aymanetech.event.event.domain.vo.DateBucket;
+import com.aymanetech.event.event.domain.vo.EventDistance;
 import com.aymanetech.event.event.domain.vo.EventId;
+import com.aymanetech.event.event.domain.vo.FacetCount;
+import com.aymanetech.event.event.domain.vo.PriceBand;
 import com.aymanetech.event.user.application.service.OrganizerService;
 import com.aymanetech.event.user.domain.vo.UserId;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.aymanetech.event.event.domain.repository.EventSpecifications.*;
 
 @ApplicationService
 public class DefaultEventService implements EventService {
+    private static final double MAX_NEARBY_RADIUS_KM = 500;
+    private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final EventRepository repository;
     private final EventMapper mapper;
     private final CategoryService categoryService;
     private final OrganizerService organizerService;
-    private final SlugService slugService;
+    private final SlugAllocator slugAllocator;
     private final FileUploader fileUploader;
+    private final SeatInventoryService seatInventoryService;
+    private final EventTitleIndex titleIndex;
+    private final EventSuggester suggester;
+    private final EventDetailsCache detailsCache;
+    private final SlugIdCache slugIds;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public DefaultEventService(EventRepository repository, EventMapper mapper, CategoryService categoryService, OrganizerService organizerService, SlugService slugService, FileUploader fileUploader) {
+    public DefaultEventService(EventRepository repository, EventMapper mapper, CategoryService categoryService, OrganizerService organizerService, SlugService slugService, FileUploader fileUploader, SeatInventoryService seatInventoryService, EventTitleIndex titleIndex, EventSuggester suggester, EventDetailsCache detailsCache, SlugCacheProperties slugCacheProperties, MeterRegistry meterRegistry, ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
         this.repository = repository;
         this.mapper = mapper;
         this.categoryService = categoryService;
         this.organizerService = organizerService;
-        this.slugService = slugService;
         this.fileUploader = fileUploader;
-        this.slugService.setRepository(repository);
+        this.seatInventoryService = seatInventoryService;
+        this.titleIndex = titleIndex;
+        this.suggester = suggester;
+        this.detailsCache = detailsCache;
+        this.slugIds = new SlugIdCache("event.slugs", slugCacheProperties.maximumSize(), meterRegistry);
+        this.slugAllocator = slugService.allocatorFor("events", repository);
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Override
@@ -45,10 +104,51 @@ public class DefaultEventService implements EventService {
     }
 
     @Override
+    public CursorPage<EventResponseDto> findAllEvents(Cursor cursor, int size) {
+        var events = repository.findAllBefore(cursor.createdAt(), cursor.id(), Limit.of(size + 1));
+        return CursorPage.of(events, size, DefaultEventService::cursorOf, mapper::toResponseDto);
+    }
+
+    @Override
+    public CursorPage<EventResponseDto> findUpcomingEvents(LocalDateTime from, LocalDateTime to, DateCursor cursor, int size) {
+        var now = LocalDateTime.now();
+        var windowStart = from == null || from.isBefore(now) ? now : from;
+        var windowEnd = to == null ? END_OF_TIME : to;
+        if (!windowEnd.isAfter(windowStart))
+            return new CursorPage<>(List.of(), null);
+
+        var ids = repository.findVerifiedIdsBetween(windowStart, windowEnd, cursor.date(), cursor.id(), Limit.of(size + 1));
+        var events = findAllByIds(ids);
+        var ordered = ids.stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return CursorPage.of(ordered, size, event -> new DateCursor(event.getDate(), event.getId().value()), mapper::toResponseDto);
+    }
+
+    // a cache hit takes no connection; a miss reads in a transaction of its own unless the caller has one
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EventResponseDto findEventById(EventId id) {
-        return repository.findById(id)
+        return detailsCache.get(id, () -> readOnlyTransaction.execute(status -> repository.findById(id)
                 .map(mapper::toResponseDto)
-                .orElseThrow(() -> new ResourceNotFoundException("Event", id.value()));
+                .orElseThrow(() -> new ResourceNotFoundException("Event", id.value()))));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EventResponseDto findEventBySlug(String slug) {
+        var id = slugIds.resolve(slug, repository::findIdBySlug)
+                .orElseThrow(() -> new ResourceNotFoundException("Event with slug " + slug + " not found"));
+        var event = findEventById(EventId.of(id));
+        if (event.slug().equals(slug))
+            return event;
+
+        // the id was cached just before the event got a new slug
+        slugIds.evict(slug);
+        return repository.findIdBySlug(slug)
+                .map(freshId -> findEventById(EventId.of(freshId)))
+                .orElseThrow(() -> new ResourceNotFoundException("Event with slug " + slug + " not found"));
     }
 
     @Override
@@ -59,10 +159,62 @@ public class DefaultEventService implements EventService {
                 .map(mapper::toResponseDto);
     }
 
+    @Override
+    public CursorPage<EventResponseDto> findAllEventsByOrganizerId(UserId organizerId, Cursor cursor, int size) {
+        ensureOrganizerExists(organizerId);
+
+        var events = repository.findAllByOrganiserIdBefore(organizerId, cursor.createdAt(), cursor.id(), Limit.of(size + 1));
+        return CursorPage.of(events, size, DefaultEventService::cursorOf, mapper::toResponseDto);
+    }
+
     @Override
     public Page<EventResponseDto> searchEventsByTitle(String title, Pageable pageable) {
-        return repository.findAllByTitle(title, pageable)
-                .map(mapper::toResponseDto);
+        var query = EventSearchQuery.toPrefixTsQuery(title);
+        if (query.isEmpty())
+            return Page.empty(pageable);
+
+        var ids = repository.searchIds(query.get(), pageable);
+        var events = findAllByIds(ids.getContent());
+        var content = ids.stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .map(mapper::toResponseDto)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
+
+    @Override
+    public FacetedEventsDto browseEvents(EventFacetFilter filter, Pageable pageable) {
+        var now = LocalDateTime.now();
+        var spec = inCategory(filter.categoryId())
+                .and(inPriceBand(filter.priceBand()))
+                .and(inDateBucket(filter.dateBucket(), now))
+                .and(withBookingType(filter.bookingType()))
+                .and(withVerified(filter.verified()));
+        var sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("date", "id.value"));
+        var events = repository.findAll(spec, sorted).map(mapper::toResponseDto);
+
+        var counts = repository.countFacets(filter.categoryId(), nameOf(filter.priceBand()), nameOf(filter.dateBucket()),
+                nameOf(filter.bookingType()), filter.verified(), now);
+        return new FacetedEventsDto(events, toFacets(counts));
+    }
+
+    @Override
+    public Page<NearbyEventDto> findEventsNearby(double latitude, double longitude, double radiusKm, Pageable pageable) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)
+            throw new IllegalArgumentException("Coordinates out of range");
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM)
+            throw new IllegalArgumentException("Radius must be between 0 and " + MAX_NEARBY_RADIUS_KM + " km");
+
+        var box = GeoBox.around(latitude, longitude, radiusKm);
+        var distances = repository.findWithinRadius(latitude, longitude, radiusKm,
+                box.minLatitude(), box.minLongitude(), box.maxLatitude(), box.maxLongitude(), pageable);
+        var events = findAllByIds(distances.map(EventDistance::getId).getContent());
+        var content = distances.stream()
+                .filter(distance -> events.containsKey(distance.getId()))
+                .map(distance -> new NearbyEventDto(mapper.toResponseDto(events.get(distance.getId())), distance.getDistanceKm()))
+                .toList();
+        return new PageImpl<>(content, pageable, distances.getTotalElements());
     }
 
     @Override
@@ -75,9 +227,12 @@ public class DefaultEventService implements EventService {
         event.setOrganiser(organizer)
                 .setCategory(category)
                 .setImageUrl(imageUrl)
-                .setSlug(slugService.generateUniqueSlug(request.title()));
+                .setSlug(slugAllocator.allocate(request.title()))
+                .setAvailableSeats(request.numberOfSeats());
 
         final var savedEvent = repository.save(event);
+        titleIndex.indexEvent(savedEvent.getId(), savedEvent.getTitle());
+        suggester.markStale();
         return mapper.toResponseDto(savedEvent);
     }
 
@@ -87,31 +242,50 @@ public class DefaultEventService implements EventService {
         final var event = findEventEntityById(id);
         final var category = categoryService.findCategoryEntityById(CategoryId.of(request.categoryId()));
         final var organizer = organizerService.findOrganizerById(UserId.of(request.userId()));
+        seatInventoryService.resizeInventory(id, event.getNumberOfSeats(), request.numberOfSeats());
+        final var titleChanged = !event.getTitle().equals(request.title());
         mapper.updateEntity(event, request);
         event.setOrganiser(organizer)
                 .setCategory(category)
-                .setImageUrl(imageUrl)
-                .setSlug(slugService.generateUniqueSlug(request.title()));
+                .setImageUrl(imageUrl);
+        if (titleChanged) {
+            slugIds.evictOnCompletion(event.getSlug());
+            event.setSlug(slugAllocator.allocate(request.title()));
+        }
+        titleIndex.indexEvent(id, event.getTitle());
+        suggester.markStale();
+        detailsCache.invalidate(id);
+        eventPublisher.publishEvent(new EventChangedEvent(id));
         return mapper.toResponseDto(event);
     }
 
     @Override
     public void deleteEvent(EventId id) {
-        if (!repository.existsById(id))
-            throw new ResourceNotFoundException("Event", id.value());
+        var slug = repository.findSlugById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", id.value()));
         repository.deleteById(id);
+        slugIds.evictOnCompletion(slug);
+        titleIndex.removeEvent(id);
+        suggester.markStale();
+        detailsCache.invalidate(id);
+        eventPublisher.publishEvent(new EventChangedEvent(id));
     }
 
     @Override
     public void setReservationApprovalMode(EventId eventId, BookingType bookingType) {
         final var event = findEventEntityById(eventId);
         event.setBookingType(bookingType);
+        detailsCache.invalidate(eventId);
+        eventPublisher.publishEvent(new EventChangedEvent(eventId));
     }
 
     @Override
     public void toggleEventValidationStatus(EventId id) {
         final var event = findEventEntityById(id);
         event.setIsVerified(!event.getIsVerified());
+        suggester.markStale();
+        detailsCache.invalidate(id);
+        eventPublisher.publishEvent(new EventChangedEvent(id));
     }
 
     @Override
@@ -120,8 +294,47 @@ public class DefaultEventService implements EventService {
                 .orElseThrow(() -> new ResourceNotFoundException("Event", id.value()));
     }
 
+    private static EventFacetsDto toFacets(List<FacetCount> counts) {
+        var categories = new TreeMap<Long, Long>();
+        var priceBands = zeroCounts(PriceBand.class);
+        var dateBuckets = zeroCounts(DateBucket.class);
+        var bookingTypes = zeroCounts(BookingType.class);
+        var verified = new TreeMap<Boolean, Long>();
+        for (var count : counts) {
+            switch (count.getFacet()) {
+                case "CATEGORY" -> categories.put(Long.valueOf(count.getValue()), count.getCount());
+                case "PRICE_BAND" -> priceBands.put(PriceBand.valueOf(count.getValue()), count.getCount());
+                case "DATE_BUCKET" -> dateBuckets.put(DateBucket.valueOf(count.getValue()), count.getCount());
+                case "BOOKING_TYPE" -> bookingTypes.put(BookingType.valueOf(count.getValue()), count.getCount());
+                case "VERIFIED" -> verified.put(Boolean.valueOf(count.getValue()), count.getCount());
+                default -> throw new IllegalStateException("Unknown facet " + count.getFacet());
+            }
+        }
+        return new EventFacetsDto(categories, priceBands, dateBuckets, bookingTypes, verified);
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeroCounts(Class<E> type) {
+        var counts = new EnumMap<E, Long>(type);
+        for (var value : type.getEnumConstants())
+            counts.put(value, 0L);
+        return counts;
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    private Map<Long, Event> findAllByIds(List<Long> ids) {
+        return repository.findAllByIdValueIn(ids).stream()
+                .collect(Collectors.toMap(event -> event.getId().value(), Function.identity()));
+    }
+
     private void ensureOrganizerExists(UserId organizerId) {
         if (!organizerService.isOrganizerExists(organizerId))
             throw new ResourceNotFoundException("Organizer", organizerId.value());
     }
+
+    private static Cursor cursorOf(Event event) {
+        return new Cursor(event.getTimestamp().createdAt(), event.getId().value());
+    }
 }
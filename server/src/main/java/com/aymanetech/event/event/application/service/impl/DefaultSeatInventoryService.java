@@ -0,0 +1,51 @@
+package com.aymanetech.event.event.application.service.impl;
+
+import com.aymanetech.event.common.application.service.ApplicationService;
+import com.aymanetech.event.common.exception.BusinessValidationException;
+import com.aymanetech.event.common.exception.ResourceNotFoundException;
+import com.aymanetech.event.event.application.service.SeatInventoryService;
+import com.aymanetech.event.event.domain.repository.EventRepository;
+import com.aymanetech.event.event.domain.vo.EventId;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps {@code events.available_seats} in step with the bookings that hold seats.
+ * Every change is a single conditional UPDATE on the event row, so concurrent
+ * reservations serialize on that row instead of counting the bookings table.
+ */
+@ApplicationService
+@RequiredArgsConstructor
+public class DefaultSeatInventoryService implements SeatInventoryService {
+    private final EventRepository repository;
+
+    @Override
+    public void reserveSeats(EventId eventId, int seats) {
+        if (!tryReserveSeats(eventId, seats))
+            throw new IllegalStateException("Not enough seats available");
+    }
+
+    @Override
+    public boolean tryReserveSeats(EventId eventId, int seats) {
+        return repository.reserveSeats(eventId, seats) > 0;
+    }
+
+    @Override
+    public void releaseSeats(EventId eventId, int seats) {
+        repository.adjustAvailableSeats(eventId, seats);
+    }
+
+    @Override
+    public void resizeInventory(EventId eventId, int previousNumberOfSeats, int numberOfSeats) {
+        int delta = numberOfSeats - previousNumberOfSeats;
+        if (delta != 0 && repository.adjustAvailableSeats(eventId, delta) == 0)
+            throw new BusinessValidationException("Number of seats cannot be lower than the seats already booked");
+    }
+
+    @Override
+    public int findAvailableSeats(EventId eventId) {
+        var availableSeats = repository.findAvailableSeatsById(eventId);
+        if (availableSeats == null)
+            throw new ResourceNotFoundException("Event", eventId.value());
+        return availableSeats;
+    }
+}
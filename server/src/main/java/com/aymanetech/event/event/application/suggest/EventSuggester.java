@@ -0,0 +1,99 @@
+package com.aymanetech.event.event.application.suggest;
+
+import com.aymanetech.event.event.application.dto.response.SuggestionDto;
+import com.aymanetech.event.event.domain.repository.CategoryRepository;
+import com.aymanetech.event.event.domain.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves search-box suggestions over event titles, category names and locations from an
+ * immutable {@link SuggestionIndex}. Changes only mark the index stale; a scheduled task
+ * rebuilds it off the request path and publishes it with a single volatile write, so
+ * readers never wait. Events weigh the seats they have sold, categories and locations
+ * the seats sold by their events.
+ */
+@Slf4j
+@Component
+public class EventSuggester {
+    private final EventRepository eventRepository;
+    private final CategoryRepository categoryRepository;
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private volatile SuggestionIndex index = SuggestionIndex.EMPTY;
+
+    public EventSuggester(EventRepository eventRepository, CategoryRepository categoryRepository) {
+        this.eventRepository = eventRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        return index.suggest(prefix, limit).stream()
+                .map(entry -> new SuggestionDto(entry.type(), entry.id(), entry.text()))
+                .toList();
+    }
+
+    /**
+     * Marks the index stale once the calling transaction commits, so the rebuild reads the
+     * change instead of racing it.
+     */
+    public void markStale() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stale.set(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stale.set(true);
+            }
+        });
+    }
+
+    // seats sold move the weights without touching events through the services
+    @Scheduled(fixedDelayString = "${app.events.suggest.popularity-refresh-interval}")
+    public void refreshPopularity() {
+        markStale();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.events.suggest.refresh-interval}")
+    public void rebuildIfStale() {
+        if (!stale.getAndSet(false))
+            return;
+
+        try {
+            index = SuggestionIndex.build(loadEntries());
+        } catch (RuntimeException e) {
+            stale.set(true);
+            log.error("Failed to rebuild the suggestion index, keeping the previous one", e);
+        }
+    }
+
+    private List<SuggestionIndex.Entry> loadEntries() {
+        var entries = new ArrayList<SuggestionIndex.Entry>();
+        var seatsByCategory = new HashMap<Long, Long>();
+        var seatsByLocation = new HashMap<String, Long>();
+        for (var event : eventRepository.findAllPopularity()) {
+            long seats = event.seatsTaken();
+            entries.add(new SuggestionIndex.Entry(SuggestionType.EVENT, event.id(), event.title(), seats));
+            seatsByCategory.merge(event.categoryId(), seats, Long::sum);
+            seatsByLocation.merge(event.location(), seats, Long::sum);
+        }
+        for (var category : categoryRepository.findAllNames())
+            entries.add(new SuggestionIndex.Entry(SuggestionType.CATEGORY, category.id(), category.name(),
+                    seatsByCategory.getOrDefault(category.id(), 0L)));
+        seatsByLocation.forEach((location, seats) ->
+                entries.add(new SuggestionIndex.Entry(SuggestionType.LOCATION, null, location, seats)));
+        return entries;
+    }
+}
@@ -0,0 +1,146 @@
+package com.aymanetech.event.event.application.suggest;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix index answering "top N entries by weight whose text has a word
+ * starting with the typed prefix". Every word suffix of an entry ("jazz festival rabat",
+ * "festival rabat", "rabat") is a key in one sorted array, so a prefix is a contiguous
+ * range found by two binary searches. A sparse table over the key weights gives the
+ * heaviest key of any range in O(1), and the top N are pulled from the range by
+ * repeatedly splitting it around its heaviest key, in O(N log N) whatever the range size.
+ */
+public final class SuggestionIndex {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    public static final SuggestionIndex EMPTY = build(List.of());
+
+    private final String[] keys;
+    private final int[] entryOfKey;
+    private final Entry[] entries;
+    // maxByLevel[j][i] is the key of greatest weight in [i, i + 2^j)
+    private final int[][] maxByLevel;
+
+    public record Entry(SuggestionType type, Long id, String text, long weight) {
+    }
+
+    private record Range(int from, int to, int max) {
+    }
+
+    private SuggestionIndex(String[] keys, int[] entryOfKey, Entry[] entries) {
+        this.keys = keys;
+        this.entryOfKey = entryOfKey;
+        this.entries = entries;
+        this.maxByLevel = sparseTable();
+    }
+
+    public static SuggestionIndex build(Collection<Entry> source) {
+        var entries = source.toArray(Entry[]::new);
+        var keyed = new ArrayList<KeyedEntry>();
+        for (int i = 0; i < entries.length; i++) {
+            var words = WORD_SEPARATOR.split(normalize(entries[i].text()));
+            for (int w = 0; w < words.length; w++)
+                if (!words[w].isEmpty())
+                    keyed.add(new KeyedEntry(String.join(" ", Arrays.copyOfRange(words, w, words.length)), i));
+        }
+        keyed.sort(Comparator.comparing(KeyedEntry::key));
+
+        var keys = new String[keyed.size()];
+        var entryOfKey = new int[keyed.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyed.get(i).key();
+            entryOfKey[i] = keyed.get(i).entry();
+        }
+        return new SuggestionIndex(keys, entryOfKey, entries);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public List<Entry> suggest(String prefix, int limit) {
+        var normalized = String.join(" ", WORD_SEPARATOR.split(normalize(prefix).strip()));
+        if (normalized.isEmpty() || limit <= 0)
+            return List.of();
+
+        var from = lowerBound(normalized);
+        var to = lowerBound(normalized + Character.MAX_VALUE);
+        if (from == to)
+            return List.of();
+
+        var ranges = new PriorityQueue<Range>(Comparator.comparingLong((Range range) -> weightOf(range.max())).reversed());
+        ranges.add(new Range(from, to, maxIn(from, to)));
+        var seen = new HashSet<Integer>();
+        var suggestions = new ArrayList<Entry>(limit);
+        while (!ranges.isEmpty() && suggestions.size() < limit) {
+            var range = ranges.poll();
+            if (seen.add(entryOfKey[range.max()]))
+                suggestions.add(entries[entryOfKey[range.max()]]);
+            if (range.from() < range.max())
+                ranges.add(new Range(range.from(), range.max(), maxIn(range.from(), range.max())));
+            if (range.max() + 1 < range.to())
+                ranges.add(new Range(range.max() + 1, range.to(), maxIn(range.max() + 1, range.to())));
+        }
+        return suggestions;
+    }
+
+    static String normalize(String text) {
+        if (text == null)
+            return "";
+        return MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private int lowerBound(String key) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private int maxIn(int from, int to) {
+        var level = 31 - Integer.numberOfLeadingZeros(to - from);
+        var left = maxByLevel[level][from];
+        var right = maxByLevel[level][to - (1 << level)];
+        return weightOf(left) >= weightOf(right) ? left : right;
+    }
+
+    private long weightOf(int key) {
+        return entries[entryOfKey[key]].weight();
+    }
+
+    private int[][] sparseTable() {
+        var levels = keys.length == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(keys.length);
+        var table = new int[levels][];
+        table[0] = new int[keys.length];
+        for (int i = 0; i < keys.length; i++)
+            table[0][i] = i;
+        for (int level = 1; level < levels; level++) {
+            var span = 1 << level;
+            table[level] = new int[keys.length - span + 1];
+            for (int i = 0; i + span <= keys.length; i++) {
+                var left = table[level - 1][i];
+                var right = table[level - 1][i + span / 2];
+                table[level][i] = weightOf(left) >= weightOf(right) ? left : right;
+            }
+        }
+        return table;
+    }
+
+    private record KeyedEntry(String key, int entry) {
+    }
+}
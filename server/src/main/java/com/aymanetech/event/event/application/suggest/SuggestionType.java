@@ -0,0 +1,7 @@
+package com.aymanetech.event.event.application.suggest;
+
+public enum SuggestionType {
+    EVENT,
+    CATEGORY,
+    LOCATION
+}
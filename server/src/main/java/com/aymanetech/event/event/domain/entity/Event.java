@@ -16,11 +16,16 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "events")
-
+@NamedEntityGraph(
+        name = Event.DETAILS_GRAPH,
+        attributeNodes = {@NamedAttributeNode("category"), @NamedAttributeNode("organiser")}
+)
 @Getter
 @Setter
 @NoArgsConstructor
 public class Event {
+    // what EventResponseDto and NestedEvent read
+    public static final String DETAILS_GRAPH = "Event.details";
 
     @EmbeddedId
     private EventId id;
@@ -33,12 +38,20 @@ public class Event {
 
     private Integer numberOfSeats;
 
+    // written only through the conditional updates in EventRepository
+    @Column(updatable = false)
+    private Integer availableSeats;
+
     private BigDecimal price;
 
     private LocalDateTime date;
 
     private String location;
 
+    private Double latitude;
+
+    private Double longitude;
+
     private Boolean isVerified = false;
 
     @Enumerated(EnumType.STRING)
@@ -47,10 +60,10 @@ public class Event {
 
     private String imageUrl;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Category category;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "organizer_id")
     private User organiser;
 
@@ -3,7 +3,21 @@ package com.aymanetech.event.event.domain.repository;
 import com.aymanetech.event.common.repository.SlugRepository;
 import com.aymanetech.event.event.domain.entity.Category;
 import com.aymanetech.event.event.domain.vo.CategoryId;
+import com.aymanetech.event.event.domain.vo.IndexedName;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, CategoryId>, SlugRepository<Category> {
+
+    @Query("SELECT new com.aymanetech.event.event.domain.vo.IndexedName(c.id.value, c.name) FROM Category c")
+    List<IndexedName> findAllNames();
+
+    @Query("SELECT c.id.value FROM Category c WHERE c.slug = :slug")
+    Optional<Long> findIdBySlug(String slug);
+
+    @Query("SELECT c.slug FROM Category c WHERE c.id = :id")
+    Optional<String> findSlugById(CategoryId id);
 }
@@ -2,14 +2,203 @@ package com.aymanetech.event.event.domain.repository;
 
 import com.aymanetech.event.common.repository.SlugRepository;
 import com.aymanetech.event.event.domain.entity.Event;
+import com.aymanetech.event.event.domain.vo.CategoryId;
+import com.aymanetech.event.event.domain.vo.DateBucket;
+import com.aymanetech.event.event.domain.vo.EventDistance;
 import com.aymanetech.event.event.domain.vo.EventId;
+import com.aymanetech.event.event.domain.vo.EventPopularity;
+import com.aymanetech.event.event.domain.vo.FacetCount;
+import com.aymanetech.event.event.domain.vo.IndexedName;
+import com.aymanetech.event.event.domain.vo.PriceBand;
 import com.aymanetech.event.user.domain.vo.UserId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface EventRepository extends JpaRepository<Event, EventId>, SlugRepository<Event> {
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface EventRepository extends JpaRepository<Event, EventId>, JpaSpecificationExecutor<Event>, SlugRepository<Event> {
+    @Override
+    @EntityGraph(Event.DETAILS_GRAPH)
+    Optional<Event> findById(EventId id);
+
+    @Override
+    @EntityGraph(Event.DETAILS_GRAPH)
+    Page<Event> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(Event.DETAILS_GRAPH)
+    Page<Event> findAll(Specification<Event> spec, Pageable pageable);
+
+    @EntityGraph(Event.DETAILS_GRAPH)
     Page<Event> findAllByOrganiserId(UserId organizerId, Pageable pageable);
 
-    Page<Event> findAllByTitle(String title, Pageable pageable);
+    // ranked full-text match over title, location and description; query is a tsquery
+    @Query(value = """
+            SELECT e.id FROM events e
+            WHERE e.search_vector @@ to_tsquery('simple', :query)
+            ORDER BY ts_rank(e.search_vector, to_tsquery('simple', :query)) DESC, e.id
+            """,
+            countQuery = "SELECT COUNT(*) FROM events e WHERE e.search_vector @@ to_tsquery('simple', :query)",
+            nativeQuery = true)
+    Page<Long> searchIds(String query, Pageable pageable);
+
+    // the box predicate is served by the GiST index; the haversine distance then filters and sorts
+    @Query(value = """
+            SELECT e.id AS id, d.km AS distanceKm
+            FROM events e
+                     CROSS JOIN LATERAL (
+                SELECT 2 * 6371.0088 * asin(least(1, sqrt(
+                        power(sin(radians(e.latitude - :latitude) / 2), 2)
+                            + cos(radians(:latitude)) * cos(radians(e.latitude))
+                                  * power(sin(radians(e.longitude - :longitude) / 2), 2)))) AS km) d
+            WHERE e.latitude IS NOT NULL
+              AND point(e.longitude, e.latitude) <@ box(point(:minLongitude, :minLatitude), point(:maxLongitude, :maxLatitude))
+              AND d.km <= :radiusKm
+            ORDER BY d.km, e.id
+            """,
+            countQuery = """
+                    SELECT COUNT(*)
+                    FROM events e
+                    WHERE e.latitude IS NOT NULL
+                      AND point(e.longitude, e.latitude) <@ box(point(:minLongitude, :minLatitude), point(:maxLongitude, :maxLatitude))
+                      AND 2 * 6371.0088 * asin(least(1, sqrt(
+                            power(sin(radians(e.latitude - :latitude) / 2), 2)
+                                + cos(radians(:latitude)) * cos(radians(e.latitude))
+                                      * power(sin(radians(e.longitude - :longitude) / 2), 2)))) <= :radiusKm
+                    """,
+            nativeQuery = true)
+    Page<EventDistance> findWithinRadius(double latitude, double longitude, double radiusKm,
+                                         double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                         Pageable pageable);
+
+    @EntityGraph(Event.DETAILS_GRAPH)
+    @Query("SELECT e FROM Event e WHERE e.id.value IN :ids")
+    List<Event> findAllByIdValueIn(Collection<Long> ids);
+
+    @EntityGraph(Event.DETAILS_GRAPH)
+    @Query("""
+            SELECT e FROM Event e
+            WHERE e.timestamp.createdAt <= :createdAt
+              AND (e.timestamp.createdAt < :createdAt OR e.id.value < :id)
+            ORDER BY e.timestamp.createdAt DESC, e.id.value DESC
+            """)
+    List<Event> findAllBefore(Instant createdAt, Long id, Limit limit);
+
+    @EntityGraph(Event.DETAILS_GRAPH)
+    @Query("""
+            SELECT e FROM Event e
+            WHERE e.organiser.id = :organizerId
+              AND e.timestamp.createdAt <= :createdAt
+              AND (e.timestamp.createdAt < :createdAt OR e.id.value < :id)
+            ORDER BY e.timestamp.createdAt DESC, e.id.value DESC
+            """)
+    List<Event> findAllByOrganiserIdBefore(UserId organizerId, Instant createdAt, Long id, Limit limit);
+
+    // ids only, so the walk stays on the partial (date, id) index of verified events
+    @Query("""
+            SELECT e.id.value FROM Event e
+            WHERE e.isVerified = true
+              AND e.date >= :from AND e.date < :to
+              AND e.date >= :date
+              AND (e.date > :date OR e.id.value > :id)
+            ORDER BY e.date, e.id.value
+            """)
+    List<Long> findVerifiedIdsBetween(LocalDateTime from, LocalDateTime to, LocalDateTime date, Long id, Limit limit);
+
+    /**
+     * Counts every facet value in one pass over the events. Each facet is counted with
+     * all the other filters applied but not its own, so a selected value still shows
+     * what its siblings would yield. The bands mirror {@link PriceBand} and {@link DateBucket};
+     * date buckets are cut at {@code now}, the same instant the page filter uses, rather than
+     * at the database clock.
+     */
+    @Query(value = """
+            WITH banded AS (SELECT e.category_id,
+                                   CASE
+                                       WHEN e.price <= 0 THEN 'FREE'
+                                       WHEN e.price <= 100 THEN 'UP_TO_100'
+                                       WHEN e.price <= 300 THEN 'UP_TO_300'
+                                       ELSE 'OVER_300' END                     AS price_band,
+                                   CASE
+                                       WHEN e.date < CAST(:now AS TIMESTAMP) THEN 'PAST'
+                                       WHEN e.date < CAST(:now AS TIMESTAMP) + INTERVAL '7 days' THEN 'NEXT_7_DAYS'
+                                       WHEN e.date < CAST(:now AS TIMESTAMP) + INTERVAL '30 days' THEN 'NEXT_30_DAYS'
+                                       ELSE 'LATER' END                        AS date_bucket,
+                                   CAST(e.booking_type AS TEXT)                AS booking_type,
+                                   e.is_verified
+                            FROM events e),
+                 matched AS (SELECT b.*,
+                                    (CAST(:categoryId AS BIGINT) IS NULL OR b.category_id = CAST(:categoryId AS BIGINT)) AS category_match,
+                                    (CAST(:priceBand AS TEXT) IS NULL OR b.price_band = CAST(:priceBand AS TEXT))        AS price_match,
+                                    (CAST(:dateBucket AS TEXT) IS NULL OR b.date_bucket = CAST(:dateBucket AS TEXT))     AS date_match,
+                                    (CAST(:bookingType AS TEXT) IS NULL OR b.booking_type = CAST(:bookingType AS TEXT))  AS type_match,
+                                    (CAST(:verified AS BOOLEAN) IS NULL OR b.is_verified = CAST(:verified AS BOOLEAN))   AS verified_match
+                             FROM banded b)
+            SELECT CASE
+                       WHEN GROUPING(m.category_id) = 0 THEN 'CATEGORY'
+                       WHEN GROUPING(m.price_band) = 0 THEN 'PRICE_BAND'
+                       WHEN GROUPING(m.date_bucket) = 0 THEN 'DATE_BUCKET'
+                       WHEN GROUPING(m.booking_type) = 0 THEN 'BOOKING_TYPE'
+                       ELSE 'VERIFIED' END AS facet,
+                   COALESCE(CAST(m.category_id AS TEXT), m.price_band, m.date_bucket, m.booking_type,
+                            CAST(m.is_verified AS TEXT)) AS value,
+                   CASE
+                       WHEN GROUPING(m.category_id) = 0
+                           THEN COUNT(*) FILTER (WHERE m.price_match AND m.date_match AND m.type_match AND m.verified_match)
+                       WHEN GROUPING(m.price_band) = 0
+                           THEN COUNT(*) FILTER (WHERE m.category_match AND m.date_match AND m.type_match AND m.verified_match)
+                       WHEN GROUPING(m.date_bucket) = 0
+                           THEN COUNT(*) FILTER (WHERE m.category_match AND m.price_match AND m.type_match AND m.verified_match)
+                       WHEN GROUPING(m.booking_type) = 0
+                           THEN COUNT(*) FILTER (WHERE m.category_match AND m.price_match AND m.date_match AND m.verified_match)
+                       ELSE COUNT(*) FILTER (WHERE m.category_match AND m.price_match AND m.date_match AND m.type_match)
+                       END AS count
+            FROM matched m
+            GROUP BY GROUPING SETS ((m.category_id), (m.price_band), (m.date_bucket), (m.booking_type), (m.is_verified))
+            """, nativeQuery = true)
+    List<FacetCount> countFacets(Long categoryId, String priceBand, String dateBucket, String bookingType, Boolean verified, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.availableSeats = e.availableSeats - :seats WHERE e.id = :id AND e.availableSeats >= :seats")
+    int reserveSeats(EventId id, int seats);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.availableSeats = e.availableSeats + :seats WHERE e.id = :id AND e.availableSeats + :seats >= 0")
+    int adjustAvailableSeats(EventId id, int seats);
+
+    @Query("SELECT new com.aymanetech.event.event.domain.vo.IndexedName(e.id.value, e.title) FROM Event e")
+    List<IndexedName> findAllTitles();
+
+    @Query("""
+            SELECT new com.aymanetech.event.event.domain.vo.EventPopularity(
+                e.id.value, e.title, e.location, e.category.id.value, e.numberOfSeats - e.availableSeats)
+            FROM Event e
+            """)
+    List<EventPopularity> findAllPopularity();
+
+    @Query("SELECT e.id.value FROM Event e WHERE e.slug = :slug")
+    Optional<Long> findIdBySlug(String slug);
+
+    @Query("SELECT e.slug FROM Event e WHERE e.id = :id")
+    Optional<String> findSlugById(EventId id);
+
+    @Query("SELECT e.id.value FROM Event e WHERE e.category.id = :categoryId")
+    List<Long> findIdsByCategoryId(CategoryId categoryId);
+
+    @Query("SELECT e.id.value FROM Event e WHERE e.organiser.id = :organizerId")
+    List<Long> findIdsByOrganiserId(UserId organizerId);
+
+    @Query("SELECT e.availableSeats FROM Event e WHERE e.id = :id")
+    Integer findAvailableSeatsById(EventId id);
 }
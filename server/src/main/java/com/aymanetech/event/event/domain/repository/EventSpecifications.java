@@ -0,0 +1,56 @@
+package com.aymanetech.event.event.domain.repository;
+
+import com.aymanetech.event.event.domain.entity.Event;
+import com.aymanetech.event.event.domain.vo.BookingType;
+import com.aymanetech.event.event.domain.vo.CategoryId;
+import com.aymanetech.event.event.domain.vo.DateBucket;
+import com.aymanetech.event.event.domain.vo.PriceBand;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Event filters for {@link EventRepository#findAll(Specification, org.springframework.data.domain.Pageable)};
+ * a {@code null} value leaves the filter out.
+ */
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> inCategory(Long categoryId) {
+        return (root, query, cb) -> categoryId == null ? null
+                : cb.equal(root.get("category").get("id"), CategoryId.of(categoryId));
+    }
+
+    public static Specification<Event> inPriceBand(PriceBand band) {
+        return (root, query, cb) -> {
+            if (band == null)
+                return null;
+            var price = root.<BigDecimal>get("price");
+            var lower = band.min() == null ? cb.conjunction() : cb.greaterThan(price, band.min());
+            var upper = band.max() == null ? cb.conjunction() : cb.lessThanOrEqualTo(price, band.max());
+            return cb.and(lower, upper);
+        };
+    }
+
+    public static Specification<Event> inDateBucket(DateBucket bucket, LocalDateTime now) {
+        return (root, query, cb) -> {
+            if (bucket == null)
+                return null;
+            var date = root.<LocalDateTime>get("date");
+            var lower = bucket.from() == null ? cb.conjunction() : cb.greaterThanOrEqualTo(date, now.plus(bucket.from()));
+            var upper = bucket.to() == null ? cb.conjunction() : cb.lessThan(date, now.plus(bucket.to()));
+            return cb.and(lower, upper);
+        };
+    }
+
+    public static Specification<Event> withBookingType(BookingType bookingType) {
+        return (root, query, cb) -> bookingType == null ? null : cb.equal(root.get("bookingType"), bookingType);
+    }
+
+    public static Specification<Event> withVerified(Boolean verified) {
+        return (root, query, cb) -> verified == null ? null : cb.equal(root.get("isVerified"), verified);
+    }
+}
@@ -1,9 +1,10 @@
 package com.aymanetech.event.event.domain.vo;
 
+import com.aymanetech.event.common.domain.vo.IdValueObject;
 import jakarta.persistence.Column;
 import jakarta.persistence.GeneratedValue;
 
-public record CategoryId(@Column(name = "id") @GeneratedValue Long value) {
+public record CategoryId(@Column(name = "id") @GeneratedValue Long value) implements IdValueObject<Long> {
     public static CategoryId of(Long id) {
         return new CategoryId(id);
     }
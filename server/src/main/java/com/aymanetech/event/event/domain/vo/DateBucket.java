@@ -0,0 +1,31 @@
+package com.aymanetech.event.event.domain.vo;
+
+import java.time.Duration;
+
+/**
+ * Date facet of an event, relative to now: dates in {@code [now + from, now + to)},
+ * open-ended where a bound is {@code null}. The bounds are mirrored by the CASE
+ * expression in {@code EventRepository.countFacets}.
+ */
+public enum DateBucket {
+    PAST(null, Duration.ZERO),
+    NEXT_7_DAYS(Duration.ZERO, Duration.ofDays(7)),
+    NEXT_30_DAYS(Duration.ofDays(7), Duration.ofDays(30)),
+    LATER(Duration.ofDays(30), null);
+
+    private final Duration from;
+    private final Duration to;
+
+    DateBucket(Duration from, Duration to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public Duration from() {
+        return from;
+    }
+
+    public Duration to() {
+        return to;
+    }
+}
@@ -0,0 +1,7 @@
+package com.aymanetech.event.event.domain.vo;
+
+public interface EventDistance {
+    Long getId();
+
+    Double getDistanceKm();
+}
@@ -1,9 +1,10 @@
 package com.aymanetech.event.event.domain.vo;
 
+import com.aymanetech.event.common.domain.vo.IdValueObject;
 import jakarta.persistence.Column;
 import jakarta.persistence.GeneratedValue;
 
-public record EventId(@Column(name = "id") @GeneratedValue Long value) {
+public record EventId(@Column(name = "id") @GeneratedValue Long value) implements IdValueObject<Long> {
     public static EventId of(Long id){
         return new EventId(id);
     }
@@ -0,0 +1,4 @@
+package com.aymanetech.event.event.domain.vo;
+
+public record EventPopularity(Long id, String title, String location, Long categoryId, Integer seatsTaken) {
+}
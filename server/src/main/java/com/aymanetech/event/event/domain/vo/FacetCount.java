@@ -0,0 +1,9 @@
+package com.aymanetech.event.event.domain.vo;
+
+public interface FacetCount {
+    String getFacet();
+
+    String getValue();
+
+    Long getCount();
+}
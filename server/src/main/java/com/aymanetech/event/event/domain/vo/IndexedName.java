@@ -0,0 +1,4 @@
+package com.aymanetech.event.event.domain.vo;
+
+public record IndexedName(Long id, String name) {
+}
@@ -0,0 +1,31 @@
+package com.aymanetech.event.event.domain.vo;
+
+import java.math.BigDecimal;
+
+/**
+ * Price facet of an event: prices in {@code (min, max]}, open-ended where a bound is
+ * {@code null}. The bounds are mirrored by the CASE expression in
+ * {@code EventRepository.countFacets}.
+ */
+public enum PriceBand {
+    FREE(null, BigDecimal.ZERO),
+    UP_TO_100(BigDecimal.ZERO, BigDecimal.valueOf(100)),
+    UP_TO_300(BigDecimal.valueOf(100), BigDecimal.valueOf(300)),
+    OVER_300(BigDecimal.valueOf(300), null);
+
+    private final BigDecimal min;
+    private final BigDecimal max;
+
+    PriceBand(BigDecimal min, BigDecimal max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public BigDecimal min() {
+        return min;
+    }
+
+    public BigDecimal max() {
+        return max;
+    }
+}
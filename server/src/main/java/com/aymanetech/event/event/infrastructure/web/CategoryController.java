@@ -33,6 +33,12 @@ public class CategoryController {
         return ResponseEntity.ok(category);
     }
 
+    @GetMapping("/slug/{slug}")
+    ResponseEntity<CategoryResponseDto> findCategoryBySlug(@PathVariable String slug) {
+        var category = categoryService.findCategoryBySlug(slug);
+        return ResponseEntity.ok(category);
+    }
+
     @PostMapping
     public ResponseEntity<CategoryResponseDto> createCategory(@RequestBody @Valid CategoryRequestDto request) {
         var category = categoryService.createCategory(request);
@@ -1,18 +1,34 @@
 package com.aymanetech.event.event.infrastructure.web;
 
+import com.aymanetech.event.common.application.pagination.Cursor;
+import com.aymanetech.event.common.application.pagination.CursorPage;
+import com.aymanetech.event.common.application.pagination.DateCursor;
+import com.aymanetech.event.event.application.dto.request.EventFacetFilter;
 import com.aymanetech.event.event.application.dto.request.EventRequestDto;
 import com.aymanetech.event.event.application.dto.response.EventResponseDto;
+import com.aymanetech.event.event.application.dto.response.FacetedEventsDto;
+import com.aymanetech.event.event.application.dto.response.FuzzySearchResponseDto;
+import com.aymanetech.event.event.application.dto.response.NearbyEventDto;
+import com.aymanetech.event.event.application.dto.response.SuggestionDto;
+import com.aymanetech.event.event.application.search.EventTitleIndex;
 import com.aymanetech.event.event.application.service.EventService;
+import com.aymanetech.event.event.application.suggest.EventSuggester;
 import com.aymanetech.event.event.domain.vo.BookingType;
 import com.aymanetech.event.event.domain.vo.EventId;
 import com.aymanetech.event.user.domain.vo.UserId;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static com.aymanetech.event.common.util.UriUtil.getUri;
 import static com.aymanetech.event.event.infrastructure.web.EventController.BASE_URL;
 
@@ -21,7 +37,11 @@ import static com.aymanetech.event.event.infrastructure.web.EventController.BASE
 @RequiredArgsConstructor
 public class EventController {
     public static final String BASE_URL = "/api/v1/events";
+    private static final int MAX_FUZZY_MATCHES = 50;
+    private static final int MAX_SUGGESTIONS = 20;
     private final EventService eventService;
+    private final EventTitleIndex titleIndex;
+    private final EventSuggester suggester;
 
     @GetMapping
     public ResponseEntity<Page<EventResponseDto>> findAllEvents(@RequestParam(defaultValue = "0") int pageNum,
@@ -30,12 +50,34 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPage<EventResponseDto>> scrollAllEvents(@RequestParam String cursor,
+                                                                        @RequestParam(defaultValue = "10") @Min(1) @Max(CursorPage.MAX_SIZE) int pageSize) {
+        var events = eventService.findAllEvents(Cursor.decode(cursor), pageSize);
+        return ResponseEntity.ok(events);
+    }
+
+    @GetMapping("/upcoming")
+    public ResponseEntity<CursorPage<EventResponseDto>> findUpcomingEvents(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                                           @RequestParam(defaultValue = "") String cursor,
+                                                                           @RequestParam(defaultValue = "10") @Min(1) @Max(CursorPage.MAX_SIZE) int pageSize) {
+        var events = eventService.findUpcomingEvents(from, to, DateCursor.decode(cursor), pageSize);
+        return ResponseEntity.ok(events);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<EventResponseDto> findEventById(@PathVariable Long id) {
         var event = eventService.findEventById(EventId.of(id));
         return ResponseEntity.ok(event);
     }
 
+    @GetMapping("/slug/{slug}")
+    public ResponseEntity<EventResponseDto> findEventBySlug(@PathVariable String slug) {
+        var event = eventService.findEventBySlug(slug);
+        return ResponseEntity.ok(event);
+    }
+
     @GetMapping("/organizer/{organiserId}")
     public ResponseEntity<Page<EventResponseDto>> findAllEventsByOrganiserId(@PathVariable Integer organiserId,
                                                                              @RequestParam(defaultValue = "0") int pageNum,
@@ -44,6 +86,14 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    @GetMapping(value = "/organizer/{organiserId}", params = "cursor")
+    public ResponseEntity<CursorPage<EventResponseDto>> scrollAllEventsByOrganiserId(@PathVariable Integer organiserId,
+                                                                                     @RequestParam String cursor,
+                                                                                     @RequestParam(defaultValue = "10") @Min(1) @Max(CursorPage.MAX_SIZE) int pageSize) {
+        var events = eventService.findAllEventsByOrganizerId(UserId.of(organiserId), Cursor.decode(cursor), pageSize);
+        return ResponseEntity.ok(events);
+    }
+
     @GetMapping("/search/{title}")
     public ResponseEntity<Page<EventResponseDto>> searchEventByTitle(@PathVariable String title,
                                                                      @RequestParam(defaultValue = "0") int pageNum,
@@ -52,6 +102,39 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    // answered from memory, no database round trip
+    @GetMapping("/fuzzy")
+    public ResponseEntity<FuzzySearchResponseDto> fuzzySearch(@RequestParam String q,
+                                                              @RequestParam(defaultValue = "10") int limit) {
+        var matches = titleIndex.search(q, Math.min(limit, MAX_FUZZY_MATCHES));
+        return ResponseEntity.ok(matches);
+    }
+
+    @GetMapping("/browse")
+    public ResponseEntity<FacetedEventsDto> browseEvents(@ModelAttribute EventFacetFilter filter,
+                                                         @RequestParam(defaultValue = "0") int pageNum,
+                                                         @RequestParam(defaultValue = "10") int pageSize) {
+        var events = eventService.browseEvents(filter, PageRequest.of(pageNum, pageSize));
+        return ResponseEntity.ok(events);
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<Page<NearbyEventDto>> findEventsNearby(@RequestParam double lat,
+                                                                 @RequestParam double lon,
+                                                                 @RequestParam(defaultValue = "10") double radiusKm,
+                                                                 @RequestParam(defaultValue = "0") int pageNum,
+                                                                 @RequestParam(defaultValue = "10") int pageSize) {
+        var events = eventService.findEventsNearby(lat, lon, radiusKm, PageRequest.of(pageNum, pageSize));
+        return ResponseEntity.ok(events);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(@RequestParam String q,
+                                                       @RequestParam(defaultValue = "8") int limit) {
+        var suggestions = suggester.suggest(q, Math.min(limit, MAX_SUGGESTIONS));
+        return ResponseEntity.ok(suggestions);
+    }
+
     @PostMapping
     public ResponseEntity<EventResponseDto> createEvent(@ModelAttribute @Valid EventRequestDto request) {
         var event = eventService.createEvent(request);
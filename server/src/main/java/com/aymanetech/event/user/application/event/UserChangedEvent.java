@@ -0,0 +1,9 @@
+package com.aymanetech.event.user.application.event;
+
+import com.aymanetech.event.user.domain.vo.UserId;
+
+/**
+ * Published, inside the writing transaction, when a user is updated or deleted.
+ */
+public record UserChangedEvent(UserId userId) {
+}
@@ -2,6 +2,7 @@ package com.aymanetech.event.user.application.service;
 
 import com.aymanetech.event.user.application.dto.request.UpdateUserRequestDto;
 import com.aymanetech.event.user.application.dto.response.UserResponseDto;
+import com.aymanetech.event.user.domain.entity.User;
 import com.aymanetech.event.user.domain.vo.UserId;
 
 import java.util.List;
@@ -14,4 +15,6 @@ public interface UserService {
     UserResponseDto updateUser(UserId id, UpdateUserRequestDto request);
 
     void deleteUser(UserId id);
+
+    User findUserEntityById(UserId id);
 }
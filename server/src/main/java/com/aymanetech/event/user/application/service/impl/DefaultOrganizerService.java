@@ -1,27 +1,44 @@
 package com.aymanetech.event.user.application.service.impl;
 
+import com.aymanetech.event.common.application.concurrency.SingleFlight;
 import com.aymanetech.event.common.application.service.ApplicationService;
 import com.aymanetech.event.common.exception.ResourceNotFoundException;
 import com.aymanetech.event.user.application.service.OrganizerService;
 import com.aymanetech.event.user.domain.entity.User;
 import com.aymanetech.event.user.domain.repository.UserRepository;
 import com.aymanetech.event.user.domain.vo.UserId;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import static com.aymanetech.event.user.domain.vo.UserStatus.ACTIVE;
 
 @ApplicationService
-@RequiredArgsConstructor
 public class DefaultOrganizerService implements OrganizerService {
     private static final String ORGANIZER_ROLE_NAME = "ROLE_ORGANIZER";
 
     private final UserRepository repository;
+    private final SingleFlight<UserId, Boolean> existenceChecks;
+    private final TransactionTemplate readOnlyTransaction;
 
+    public DefaultOrganizerService(UserRepository repository, MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.existenceChecks = new SingleFlight<>("organizer", meterRegistry);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // coalesced callers wait outside any transaction of their own; only the load opens one
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isOrganizerExists(UserId id) {
-        return repository.existsByIdAndRoleNameAndStatus(id, ORGANIZER_ROLE_NAME, ACTIVE);
+        return existenceChecks.execute(id, () -> readOnlyTransaction.execute(status ->
+                repository.existsByIdAndRoleNameAndStatus(id, ORGANIZER_ROLE_NAME, ACTIVE)));
     }
 
+    // returns an entity bound to the caller's persistence context, so it is never shared
     @Override
     public User findOrganizerById(UserId id) {
         return repository.findByIdAndRoleNameAndStatus(id, ORGANIZER_ROLE_NAME, ACTIVE)
@@ -4,6 +4,7 @@ import com.aymanetech.event.common.application.service.ApplicationService;
 import com.aymanetech.event.common.exception.ResourceNotFoundException;
 import com.aymanetech.event.user.application.dto.request.UpdateUserRequestDto;
 import com.aymanetech.event.user.application.dto.response.UserResponseDto;
+import com.aymanetech.event.user.application.event.UserChangedEvent;
 import com.aymanetech.event.user.application.mapper.UserMapper;
 import com.aymanetech.event.user.application.service.RoleService;
 import com.aymanetech.event.user.application.service.UserService;
@@ -13,6 +14,7 @@ import com.aymanetech.event.user.domain.vo.RoleId;
 import com.aymanetech.event.user.domain.vo.UserId;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ApplicationService
 @RequiredArgsConstructor
@@ -21,6 +23,7 @@ public class DefaultUserService implements UserService {
     private final UserRepository repository;
     private final RoleService roleService;
     private final UserMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserResponseDto findUserById(UserId id) {
@@ -49,6 +52,7 @@ public class DefaultUserService implements UserService {
         user.setRole(role);
 
         var updatedUser = repository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
         return mapper.toResponseDto(updatedUser);
     }
 
@@ -58,13 +62,15 @@ public class DefaultUserService implements UserService {
             "User",
             id.value()
         );
+        eventPublisher.publishEvent(new UserChangedEvent(id));
         repository.deleteById(id);
     }
 
-    private User findUserEntityById(UserId id) {
+    @Override
+    public User findUserEntityById(UserId id) {
         return repository
             .findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Role", id.value())
+            .orElseThrow(() -> new ResourceNotFoundException("User", id.value())
             );
     }
 }
@@ -1,9 +1,10 @@
 package com.aymanetech.event.user.domain.vo;
 
+import com.aymanetech.event.common.domain.vo.IdValueObject;
 import jakarta.persistence.Column;
 import jakarta.persistence.GeneratedValue;
 
-public record RoleId(@Column(name = "id") @GeneratedValue Long value) {
+public record RoleId(@Column(name = "id") @GeneratedValue Long value) implements IdValueObject<Long> {
     public static RoleId of(Long id){
         return new RoleId(id);
     }
@@ -1,13 +1,17 @@
 package com.aymanetech.event.user.domain.vo;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 
 import java.io.Serializable;
 import java.time.Instant;
 
+// both columns default to CURRENT_TIMESTAMP; leaving them out of inserts lets the database fill them
 @Embeddable
 public record Timestamp(
+        @Column(insertable = false, updatable = false)
         Instant createdAt,
+        @Column(insertable = false)
         Instant updatedAt
 ) implements Serializable {
 }
@@ -1,11 +1,12 @@
 package com.aymanetech.event.user.domain.vo;
 
+import com.aymanetech.event.common.domain.vo.IdValueObject;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.GeneratedValue;
 
 @Embeddable
-public record UserId(@Column(name = "id") @GeneratedValue Integer value) {
+public record UserId(@Column(name = "id") @GeneratedValue Integer value) implements IdValueObject<Integer> {
     public static UserId of(Integer id){
         return new UserId(id);
     }
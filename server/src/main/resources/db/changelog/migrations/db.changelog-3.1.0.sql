@@ -0,0 +1,12 @@
+ALTER TABLE events
+    ADD COLUMN available_seats INTEGER;
+
+UPDATE events e
+SET available_seats = GREATEST(e.number_of_seats - COALESCE((SELECT SUM(b.number_of_tickets)
+                                                              FROM bookings b
+                                                              WHERE b.event_id = e.id
+                                                                AND b.status IN ('PENDING', 'APPROVED')), 0), 0);
+
+ALTER TABLE events
+    ALTER COLUMN available_seats SET NOT NULL,
+    ADD CONSTRAINT chk_events_available_seats CHECK (available_seats >= 0);
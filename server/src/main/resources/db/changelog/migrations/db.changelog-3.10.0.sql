@@ -0,0 +1 @@
+CREATE INDEX idx_events_verified_date_id ON events (date, id) WHERE is_verified;
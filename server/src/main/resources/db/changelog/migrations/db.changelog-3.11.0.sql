@@ -0,0 +1,28 @@
+-- Last suffix handed out per base slug, so a new slug costs one upsert whatever the number of duplicates.
+CREATE TABLE slug_counters
+(
+    scope       VARCHAR(50)  NOT NULL,
+    base_slug   VARCHAR(255) NOT NULL,
+    last_suffix INTEGER      NOT NULL,
+
+    CONSTRAINT pk_slug_counters PRIMARY KEY (scope, base_slug)
+);
+
+-- Event slugs were only checked by the application; renumber the duplicates before enforcing it.
+UPDATE events e
+SET slug = e.slug || '-' || e.id
+FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY slug ORDER BY id) AS rn FROM events) d
+WHERE d.id = e.id
+  AND d.rn > 1;
+
+CREATE UNIQUE INDEX uk_events_slug ON events (slug);
+
+INSERT INTO slug_counters (scope, base_slug, last_suffix)
+SELECT 'events', REGEXP_REPLACE(slug, '-\d{1,9}$', ''), MAX(COALESCE(SUBSTRING(slug FROM '-(\d{1,9})$')::INTEGER, 0))
+FROM events
+GROUP BY 1, 2;
+
+INSERT INTO slug_counters (scope, base_slug, last_suffix)
+SELECT 'categories', REGEXP_REPLACE(slug, '-\d{1,9}$', ''), MAX(COALESCE(SUBSTRING(slug FROM '-(\d{1,9})$')::INTEGER, 0))
+FROM categories
+GROUP BY 1, 2;
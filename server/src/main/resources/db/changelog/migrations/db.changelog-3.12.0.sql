@@ -0,0 +1,5 @@
+-- Serve the case-insensitive @UniqueField checks, which compare LOWER(column) = LOWER(:value).
+CREATE INDEX idx_events_lower_title ON events (LOWER(title));
+CREATE INDEX idx_categories_lower_name ON categories (LOWER(name));
+CREATE INDEX idx_users_lower_email ON users (LOWER(email));
+CREATE INDEX idx_permissions_lower_name ON permissions (LOWER(name));
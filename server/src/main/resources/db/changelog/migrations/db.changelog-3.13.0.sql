@@ -0,0 +1,16 @@
+-- Hot event bookings are answered before they are written; the client tracks them by this reference.
+ALTER TABLE bookings
+    ADD COLUMN reference UUID;
+
+CREATE INDEX idx_bookings_reference ON bookings (reference) WHERE reference IS NOT NULL;
+
+-- Hot event bookings the write-behind could not persist, kept so their reference still resolves.
+CREATE TABLE dropped_bookings
+(
+    reference         UUID      NOT NULL PRIMARY KEY,
+    event_id          BIGINT    NOT NULL,
+    user_id           BIGINT    NOT NULL,
+    number_of_tickets INTEGER   NOT NULL,
+    reason            TEXT      NOT NULL,
+    dropped_at        TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,12 @@
+-- Idempotency keys are scoped to the user sending them, so two clients picking the same key never meet.
+ALTER TABLE booking_idempotency_keys
+    ADD COLUMN user_id BIGINT;
+
+-- the fingerprint of a stored request is eventId:userId:numberOfTickets
+UPDATE booking_idempotency_keys
+SET user_id = CAST(split_part(request_fingerprint, ':', 2) AS BIGINT);
+
+ALTER TABLE booking_idempotency_keys
+    ALTER COLUMN user_id SET NOT NULL,
+    DROP CONSTRAINT booking_idempotency_keys_pkey,
+    ADD PRIMARY KEY (user_id, idempotency_key);
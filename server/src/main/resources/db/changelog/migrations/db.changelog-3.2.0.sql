@@ -0,0 +1,4 @@
+ALTER TYPE booking_status ADD VALUE 'HELD';
+
+ALTER TABLE bookings
+    ADD COLUMN hold_expires_at TIMESTAMP;
@@ -0,0 +1,32 @@
+CREATE TABLE waitlists
+(
+    event_id          BIGINT PRIMARY KEY NOT NULL,
+    last_position     BIGINT             NOT NULL DEFAULT 0,
+    promoted_position BIGINT             NOT NULL DEFAULT 0,
+
+    CONSTRAINT fk_waitlist_event FOREIGN KEY (event_id) REFERENCES events (id) ON DELETE CASCADE
+);
+
+CREATE TABLE waitlist_entries
+(
+    id                BIGSERIAL PRIMARY KEY NOT NULL,
+    user_id           BIGINT                NOT NULL,
+    event_id          BIGINT                NOT NULL,
+    number_of_tickets INTEGER               NOT NULL,
+    position          BIGINT                NOT NULL,
+    created_at        TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at        TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_waitlist_entry_event FOREIGN KEY (event_id) REFERENCES events (id) ON DELETE CASCADE,
+    CONSTRAINT fk_waitlist_entry_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT uk_waitlist_entry_event_user UNIQUE (event_id, user_id)
+);
+
+CREATE UNIQUE INDEX idx_waitlist_entries_event_position ON waitlist_entries (event_id, position);
+
+CREATE SEQUENCE waitlist_entries_seq
+    START WITH 1
+    INCREMENT BY 50
+    MINVALUE 1
+    MAXVALUE 999999999
+    NO CYCLE CACHE 20;
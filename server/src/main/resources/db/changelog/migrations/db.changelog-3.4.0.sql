@@ -0,0 +1,9 @@
+CREATE TABLE booking_idempotency_keys
+(
+    idempotency_key     VARCHAR(255) PRIMARY KEY NOT NULL,
+    request_fingerprint VARCHAR(255)             NOT NULL,
+    response            TEXT,
+    created_at          TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_booking_idempotency_keys_created_at ON booking_idempotency_keys (created_at);
@@ -0,0 +1,12 @@
+UPDATE bookings SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+UPDATE events SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+
+ALTER TABLE bookings
+    ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE events
+    ALTER COLUMN created_at SET NOT NULL;
+
+CREATE INDEX idx_bookings_user_created_at_id ON bookings (user_id, created_at DESC, id DESC);
+CREATE INDEX idx_bookings_event_created_at_id ON bookings (event_id, created_at DESC, id DESC);
+CREATE INDEX idx_events_created_at_id ON events (created_at DESC, id DESC);
+CREATE INDEX idx_events_organizer_created_at_id ON events (organizer_id, created_at DESC, id DESC);
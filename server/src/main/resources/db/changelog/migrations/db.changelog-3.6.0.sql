@@ -0,0 +1,18 @@
+CREATE TABLE event_booking_stats
+(
+    event_id         BIGINT PRIMARY KEY NOT NULL,
+    tickets_sold     BIGINT             NOT NULL DEFAULT 0,
+    revenue          DECIMAL            NOT NULL DEFAULT 0,
+    pending_bookings BIGINT             NOT NULL DEFAULT 0,
+    updated_at       TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_event_booking_stats_event FOREIGN KEY (event_id) REFERENCES events (id) ON DELETE CASCADE
+);
+
+INSERT INTO event_booking_stats (event_id, tickets_sold, revenue, pending_bookings)
+SELECT event_id,
+       COALESCE(SUM(number_of_tickets) FILTER (WHERE status = 'APPROVED'), 0),
+       COALESCE(SUM(total_price) FILTER (WHERE status = 'APPROVED'), 0),
+       COUNT(*) FILTER (WHERE status = 'PENDING')
+FROM bookings
+GROUP BY event_id;
@@ -0,0 +1,88 @@
+--liquibase formatted sql
+
+--changeset evento:3.7.0-create-bookings-partition splitStatements:false
+-- Creates the monthly partition holding bookings of events in the month of for_month. Rows of that
+-- month already routed to the default partition are moved over before the partition is attached.
+CREATE FUNCTION create_bookings_partition(for_month DATE) RETURNS TEXT AS
+$$
+DECLARE
+    lower_bound    DATE := date_trunc('month', for_month)::DATE;
+    upper_bound    DATE := (date_trunc('month', for_month) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'bookings_p' || to_char(for_month, 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE bookings INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM bookings_default WHERE event_date >= %L AND event_date < %L RETURNING *) '
+                       || 'INSERT INTO %I SELECT * FROM moved', lower_bound, upper_bound, partition_name);
+    EXECUTE format('ALTER TABLE bookings ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, lower_bound, upper_bound);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+--changeset evento:3.7.0-partition-bookings
+ALTER SEQUENCE bookings_id_seq OWNED BY NONE;
+ALTER TABLE bookings RENAME TO bookings_unpartitioned;
+
+CREATE TABLE bookings
+(
+    id                BIGINT         NOT NULL DEFAULT nextval('bookings_id_seq'),
+    status            booking_status NOT NULL,
+    user_id           BIGINT         NOT NULL,
+    event_id          BIGINT         NOT NULL,
+    number_of_tickets INTEGER        NOT NULL,
+    total_price       DECIMAL        NOT NULL,
+    created_at        TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at        TIMESTAMP               DEFAULT CURRENT_TIMESTAMP,
+    hold_expires_at   TIMESTAMP,
+    event_date        TIMESTAMP      NOT NULL
+) PARTITION BY RANGE (event_date);
+
+CREATE TABLE bookings_default PARTITION OF bookings DEFAULT;
+
+SELECT create_bookings_partition(month::DATE)
+FROM generate_series(date_trunc('month', COALESCE((SELECT MIN(date) FROM events), CURRENT_TIMESTAMP)),
+                     date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '12 months',
+                     INTERVAL '1 month') AS month;
+
+INSERT INTO bookings (id, status, user_id, event_id, number_of_tickets, total_price, created_at, updated_at,
+                      hold_expires_at, event_date)
+SELECT b.id, b.status, b.user_id, b.event_id, b.number_of_tickets, b.total_price, b.created_at, b.updated_at,
+       b.hold_expires_at, e.date
+FROM bookings_unpartitioned b
+         JOIN events e ON e.id = b.event_id;
+
+DROP TABLE bookings_unpartitioned;
+ALTER SEQUENCE bookings_id_seq OWNED BY bookings.id;
+
+ALTER TABLE bookings
+    ADD CONSTRAINT bookings_pkey PRIMARY KEY (id, event_date);
+ALTER TABLE bookings
+    ADD CONSTRAINT fk_booking_event FOREIGN KEY (event_id) REFERENCES events (id) ON DELETE CASCADE;
+ALTER TABLE bookings
+    ADD CONSTRAINT fk_booking_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+
+CREATE INDEX idx_bookings_user_created_at_id ON bookings (user_id, created_at DESC, id DESC);
+CREATE INDEX idx_bookings_event_created_at_id ON bookings (event_id, created_at DESC, id DESC);
+CREATE INDEX idx_bookings_event_status ON bookings (event_id, status);
+CREATE INDEX idx_bookings_held ON bookings (hold_expires_at) WHERE status = 'HELD';
+
+--changeset evento:3.7.0-sync-booking-event-date splitStatements:false
+-- Keeps the partition key in step with the event date; updated rows move across partitions.
+CREATE FUNCTION sync_booking_event_date() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE bookings SET event_date = NEW.date WHERE event_id = NEW.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_events_sync_booking_event_date
+    AFTER UPDATE OF date
+    ON events
+    FOR EACH ROW
+    WHEN (OLD.date IS DISTINCT FROM NEW.date)
+EXECUTE FUNCTION sync_booking_event_date();
@@ -0,0 +1,8 @@
+ALTER TABLE events
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', title), 'A') ||
+        setweight(to_tsvector('simple', location), 'B') ||
+        setweight(to_tsvector('simple', description), 'C')
+        ) STORED;
+
+CREATE INDEX idx_events_search_vector ON events USING GIN (search_vector);
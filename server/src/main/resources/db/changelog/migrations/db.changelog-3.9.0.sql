@@ -0,0 +1,8 @@
+ALTER TABLE events
+    ADD COLUMN latitude  DOUBLE PRECISION,
+    ADD COLUMN longitude DOUBLE PRECISION,
+    ADD CONSTRAINT chk_events_coordinates CHECK (
+        (latitude IS NULL AND longitude IS NULL)
+            OR (latitude BETWEEN -90 AND 90 AND longitude BETWEEN -180 AND 180));
+
+CREATE INDEX idx_events_coordinates ON events USING GIST (point(longitude, latitude)) WHERE latitude IS NOT NULL;
@@ -0,0 +1,141 @@
+package com.aymanetech.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the read paths against N+1 regressions by counting the JDBC statements each
+ * endpoint prepares. Every listing is seeded with rows that reference distinct events,
+ * categories and users, so a lazily walked association shows up as extra statements.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class ReadPathStatementCountTest {
+
+    private static final int EVENTS = 3;
+    private static final int BOOKINGS_PER_EVENT = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private Integer organizerId;
+    private Integer userId;
+    private Long eventId;
+    private List<Long> bookingIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        organizerId = insertUser();
+        userId = insertUser();
+        bookingIds = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            var categoryId = jdbcTemplate.queryForObject("""
+                    INSERT INTO categories (name, slug, description)
+                    VALUES ('category-' || gen_random_uuid(), 'category-' || gen_random_uuid(), 'reads')
+                    RETURNING id
+                    """, Long.class);
+            eventId = jdbcTemplate.queryForObject("""
+                    INSERT INTO events (title, slug, description, number_of_seats, available_seats, price, date, location,
+                                        is_verified, booking_type, category_id, organizer_id)
+                    VALUES ('Reads', 'reads-' || gen_random_uuid(), 'reads', 100, 100, 10, now() + interval '1 day',
+                            'Rabat', true, 'MANUAL', ?, ?)
+                    RETURNING id
+                    """, Long.class, categoryId, organizerId);
+            for (int j = 0; j < BOOKINGS_PER_EVENT; j++)
+                bookingIds.add(jdbcTemplate.queryForObject("""
+                        INSERT INTO bookings (status, user_id, event_id, number_of_tickets, total_price, event_date)
+                        SELECT 'PENDING', ?, id, 1, 10, date FROM events WHERE id = ?
+                        RETURNING id
+                        """, Long.class, insertUser(), eventId));
+        }
+    }
+
+    @Test
+    void bookingReadsUseOneStatementPerQuery() throws Exception {
+        assertThat(statementsFor("/api/v1/bookings/" + bookingIds.getFirst())).isEqualTo(1);
+        assertThat(statementsFor("/api/v1/bookings/event/" + eventId + "?cursor=")).isEqualTo(1);
+        assertThat(statementsFor("/api/v1/bookings/event/" + eventId + "?pageSize=1")).isEqualTo(2);
+    }
+
+    @Test
+    void eventReadsUseOneStatementPerQuery() throws Exception {
+        assertThat(statementsFor("/api/v1/events/" + eventId)).isEqualTo(1);
+        assertThat(statementsFor("/api/v1/events?cursor=&pageSize=" + EVENTS)).isEqualTo(1);
+        assertThat(statementsFor("/api/v1/events?pageSize=" + (EVENTS - 1))).isEqualTo(2);
+        // the organizer lookup, the page and its count
+        assertThat(statementsFor("/api/v1/events/organizer/" + organizerId + "?pageSize=" + (EVENTS - 1))).isEqualTo(3);
+    }
+
+    @Test
+    void scrollsRejectPageSizesOutOfRange() throws Exception {
+        for (var url : List.of("/api/v1/events?cursor=&pageSize=0", "/api/v1/events/upcoming?pageSize=-1",
+                "/api/v1/bookings/event/" + eventId + "?cursor=&pageSize=100000"))
+            mockMvc.perform(get(url)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void cachedEventReadTakesNoConnection() throws Exception {
+        mockMvc.perform(get("/api/v1/events/" + eventId)).andExpect(status().isOk());
+
+        var before = connectionAcquisitions();
+        mockMvc.perform(get("/api/v1/events/" + eventId)).andExpect(status().isOk());
+
+        assertThat(connectionAcquisitions()).isEqualTo(before);
+    }
+
+    @Test
+    void bookingsOfUserUseOneStatementPerQuery() throws Exception {
+        bookingIds.forEach(id -> jdbcTemplate.update("UPDATE bookings SET user_id = ? WHERE id = ?", userId, id));
+
+        assertThat(statementsFor("/api/v1/bookings/user/" + userId + "?cursor=")).isEqualTo(1);
+        assertThat(statementsFor("/api/v1/bookings/user/" + userId + "?pageSize=" + (bookingIds.size() - 1))).isEqualTo(2);
+    }
+
+    private long statementsFor(String url) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long connectionAcquisitions() {
+        return meterRegistry.get("hikaricp.connections.acquire").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private Integer insertUser() {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO users (first_name, last_name, email, password, role_id, status)
+                VALUES ('Read', 'Path', 'reads-' || gen_random_uuid() || '@evento.test', 'secret',
+                        (SELECT id FROM roles WHERE name = 'ROLE_ORGANIZER'), 'ACTIVE')
+                RETURNING id
+                """, Integer.class);
+    }
+}
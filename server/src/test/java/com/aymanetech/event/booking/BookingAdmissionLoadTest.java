@@ -0,0 +1,169 @@
+package com.aymanetech.event.booking;
+
+import com.aymanetech.event.TestcontainersConfiguration;
+import com.aymanetech.event.booking.application.dto.BookingRequestDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires a booking storm at one event while timing an unrelated endpoint. The waiting room
+ * has to shed the excess with 429 so the small connection pool keeps serving the others,
+ * and it has to do so before the request body is validated: {@code @ReferenceExists} on
+ * the event id would otherwise take a connection for every request of the storm.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.hikari.maximum-pool-size=5",
+                "app.booking.admission.permits-per-second=20",
+                "app.booking.admission.waiting-room-size=40"
+        }
+)
+class BookingAdmissionLoadTest {
+
+    private static final int STORM_REQUESTS = 600;
+    private static final int PROBE_REQUESTS = 200;
+    private static final long PROBE_P99_BUDGET_MILLIS = 500;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long eventId;
+    private Integer userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (first_name, last_name, email, password, role_id, status)
+                VALUES ('Storm', 'Buyer', 'storm-' || gen_random_uuid() || '@evento.test', 'secret',
+                        (SELECT id FROM roles WHERE name = 'ROLE_ORGANIZER'), 'ACTIVE')
+                RETURNING id
+                """, Integer.class);
+        var categoryId = jdbcTemplate.queryForObject("""
+                INSERT INTO categories (name, slug, description)
+                VALUES ('category-' || gen_random_uuid(), 'category-' || gen_random_uuid(), 'storm')
+                RETURNING id
+                """, Long.class);
+        eventId = jdbcTemplate.queryForObject("""
+                INSERT INTO events (title, slug, description, number_of_seats, available_seats, price, date, location,
+                                    is_verified, booking_type, category_id, organizer_id)
+                VALUES ('Flash sale', 'flash-sale-' || gen_random_uuid(), 'storm', 10000, 10000, 10, now() + interval '1 day',
+                        'Casablanca', true, 'AUTOMATIC', ?, ?)
+                RETURNING id
+                """, Long.class, categoryId, userId);
+    }
+
+    @Test
+    void givenBookingStorm_whenBrowsingCategories_thenLatencyIsUnaffected() throws InterruptedException {
+        var shed = new AtomicInteger();
+        var shedWithoutRetryAfter = new AtomicInteger();
+        var latencies = Collections.synchronizedList(new ArrayList<Long>());
+        var start = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(65)) {
+            for (int i = 0; i < STORM_REQUESTS; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    var response = restTemplate.postForEntity("/api/v1/bookings",
+                            new BookingRequestDto(eventId, userId, 1), String.class);
+                    if (response.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                        shed.incrementAndGet();
+                        if (response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER) == null)
+                            shedWithoutRetryAfter.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < PROBE_REQUESTS; i++) {
+                    var begin = System.nanoTime();
+                    var response = restTemplate.getForEntity("/api/v1/categories", String.class);
+                    latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+                    assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+                }
+                return null;
+            });
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        }
+
+        assertThat(shed.get()).isPositive();
+        assertThat(shedWithoutRetryAfter).hasValue(0);
+        assertThat(latencies).hasSize(PROBE_REQUESTS);
+        assertThat(p99(latencies)).isLessThan(PROBE_P99_BUDGET_MILLIS);
+    }
+
+    @Test
+    void givenBookingStorm_whenRequestsAreShed_thenTheyNeverAcquireAConnection() throws InterruptedException {
+        var acquiresPerBooking = acquisitionsDuring(() -> restTemplate.postForEntity("/api/v1/bookings",
+                new BookingRequestDto(eventId, userId, 1), String.class));
+        var admitted = new AtomicInteger();
+        var shed = new AtomicInteger();
+        var start = new CountDownLatch(1);
+
+        var stormAcquires = acquisitionsDuring(() -> {
+            try (var executor = Executors.newFixedThreadPool(65)) {
+                for (int i = 0; i < STORM_REQUESTS; i++) {
+                    executor.submit(() -> {
+                        start.await();
+                        var response = restTemplate.postForEntity("/api/v1/bookings",
+                                new BookingRequestDto(eventId, userId, 1), String.class);
+                        (response.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS ? shed : admitted).incrementAndGet();
+                        return null;
+                    });
+                }
+                start.countDown();
+                executor.shutdown();
+                assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(shed.get()).isPositive();
+        assertThat(stormAcquires).isLessThanOrEqualTo(admitted.get() * acquiresPerBooking);
+    }
+
+    private long acquisitionsDuring(Runnable action) {
+        var before = connectionAcquisitions();
+        action.run();
+        return connectionAcquisitions() - before;
+    }
+
+    private long connectionAcquisitions() {
+        return meterRegistry.get("hikaricp.connections.acquire").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private static long p99(List<Long> latencies) {
+        var sorted = latencies.stream().sorted().toList();
+        return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.aymanetech.event.booking;
+
+import com.aymanetech.event.TestcontainersConfiguration;
+import com.aymanetech.event.booking.application.dto.BookingRequestDto;
+import com.aymanetech.event.booking.application.service.BookingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class SeatInventoryConcurrencyTest {
+
+    private static final int NUMBER_OF_SEATS = 20;
+    private static final int NUMBER_OF_REQUESTS = 200;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long eventId;
+    private Integer userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (first_name, last_name, email, password, role_id, status)
+                VALUES ('Seat', 'Buyer', 'buyer-' || gen_random_uuid() || '@evento.test', 'secret',
+                        (SELECT id FROM roles WHERE name = 'ROLE_ORGANIZER'), 'ACTIVE')
+                RETURNING id
+                """, Integer.class);
+        var categoryId = jdbcTemplate.queryForObject("""
+                INSERT INTO categories (name, slug, description)
+                VALUES ('category-' || gen_random_uuid(), 'category-' || gen_random_uuid(), 'rush')
+                RETURNING id
+                """, Long.class);
+        eventId = jdbcTemplate.queryForObject("""
+                INSERT INTO events (title, slug, description, number_of_seats, available_seats, price, date, location,
+                                    is_verified, booking_type, category_id, organizer_id)
+                VALUES ('Ticket rush', 'ticket-rush-' || gen_random_uuid(), 'rush', ?, ?, 10, now() + interval '1 day',
+                        'Casablanca', true, 'AUTOMATIC', ?, ?)
+                RETURNING id
+                """, Long.class, NUMBER_OF_SEATS, NUMBER_OF_SEATS, categoryId, userId);
+    }
+
+    @Test
+    void givenTicketRush_whenBookingConcurrently_thenNoSeatIsOversold() throws InterruptedException {
+        var accepted = new AtomicInteger();
+        var rejected = new AtomicInteger();
+        var start = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(32)) {
+            for (int i = 0; i < NUMBER_OF_REQUESTS; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        bookingService.createBooking(new BookingRequestDto(eventId, userId, 1));
+                        accepted.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+
+        var bookedTickets = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(number_of_tickets), 0) FROM bookings WHERE event_id = ?", Integer.class, eventId);
+        var availableSeats = jdbcTemplate.queryForObject(
+                "SELECT available_seats FROM events WHERE id = ?", Integer.class, eventId);
+
+        assertThat(accepted).hasValue(NUMBER_OF_SEATS);
+        assertThat(rejected).hasValue(NUMBER_OF_REQUESTS - NUMBER_OF_SEATS);
+        assertThat(bookedTickets).isEqualTo(NUMBER_OF_SEATS);
+        assertThat(availableSeats).isZero();
+    }
+}
@@ -0,0 +1,107 @@
+package com.aymanetech.event.booking.application.admission;
+
+import com.aymanetech.event.event.domain.vo.EventId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class AdmissionGateTest {
+
+    private static final EventId EVENT_ID = EventId.of(1L);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void givenFreeSlot_whenAdmit_thenRequestPassesImmediately() {
+        var gate = gate(10, 10);
+
+        gate.admit(EVENT_ID, null);
+
+        assertThat(meterRegistry.get("booking.admission.admitted").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("booking.admission.queue.depth").tag("event", "1").gauge().value()).isZero();
+    }
+
+    @Test
+    void givenDistantTurn_whenAdmit_thenQueueTokenIsIssued() {
+        var gate = gate(1, 10);
+        gate.admit(EVENT_ID, null);
+
+        var rejection = catchThrowableOfType(AdmissionRejectedException.class, () -> gate.admit(EVENT_ID, null));
+
+        assertThat(rejection.getQueueToken()).isNotNull();
+        assertThat(rejection.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("booking.admission.queue.depth").tag("event", "1").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void givenQueueToken_whenTurnHasCome_thenRequestIsAdmitted() {
+        var gate = gate(2, 10);
+        gate.admit(EVENT_ID, null);
+        var queueToken = catchThrowableOfType(AdmissionRejectedException.class, () -> gate.admit(EVENT_ID, null))
+                .getQueueToken();
+        sleep(Duration.ofMillis(550));
+
+        gate.admit(EVENT_ID, queueToken);
+
+        assertThat(meterRegistry.get("booking.admission.admitted").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("booking.admission.queue.depth").tag("event", "1").gauge().value()).isZero();
+    }
+
+    @Test
+    void givenQueueToken_whenTurnHasNotCome_thenTokenIsHandedBackWithoutWaiting() {
+        var gate = gate(1, 10);
+        gate.admit(EVENT_ID, null);
+        var queueToken = catchThrowableOfType(AdmissionRejectedException.class, () -> gate.admit(EVENT_ID, null))
+                .getQueueToken();
+
+        var begin = System.nanoTime();
+        var rejection = catchThrowableOfType(AdmissionRejectedException.class, () -> gate.admit(EVENT_ID, queueToken));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - begin)).isLessThan(Duration.ofMillis(100));
+        assertThat(rejection.getQueueToken()).isEqualTo(queueToken);
+        assertThat(rejection.getRetryAfter()).isPositive();
+        assertThat(meterRegistry.get("booking.admission.queue.depth").tag("event", "1").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void givenFullRoom_whenAdmit_thenRequestIsShedWithoutToken() {
+        var gate = gate(1, 1);
+        gate.admit(EVENT_ID, null);
+        assertThatThrownBy(() -> gate.admit(EVENT_ID, null)).isInstanceOf(AdmissionRejectedException.class);
+
+        var rejection = catchThrowableOfType(AdmissionRejectedException.class, () -> gate.admit(EVENT_ID, null));
+
+        assertThat(rejection.getQueueToken()).isNull();
+        assertThat(rejection.getRetryAfter()).isPositive();
+    }
+
+    @Test
+    void givenDisabledGate_whenAdmit_thenNothingIsTracked() {
+        var gate = new AdmissionGate(new AdmissionProperties(false, 1, 1, Duration.ZERO, Duration.ZERO), meterRegistry);
+
+        gate.admit(EVENT_ID, null);
+        gate.admit(EVENT_ID, null);
+
+        assertThat(meterRegistry.find("booking.admission.queue.depth").gauge()).isNull();
+    }
+
+    private AdmissionGate gate(double permitsPerSecond, int waitingRoomSize) {
+        return new AdmissionGate(
+                new AdmissionProperties(true, permitsPerSecond, waitingRoomSize, Duration.ofSeconds(30), Duration.ofSeconds(30)),
+                meterRegistry
+        );
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.aymanetech.event.booking.application.export;
+
+import com.aymanetech.event.booking.domain.Attendee;
+import com.aymanetech.event.booking.domain.BookingStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttendeeExportWriterTest {
+
+    private static final Attendee ATTENDEE = new Attendee(1L, 2, "Aymane", "El \"Maini\", Jr", "a@evento.test",
+            BookingStatus.APPROVED, 3, new BigDecimal("30.00"), Instant.parse("2025-03-01T10:15:30Z"));
+
+    private final AttendeeExportWriter sut = new AttendeeExportWriter(new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void givenCsv_whenWrite_thenFieldsAreQuotedWhenNeeded() {
+        var out = new ByteArrayOutputStream();
+
+        sut.write(Stream.of(ATTENDEE), ExportFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                booking_id,user_id,first_name,last_name,email,status,number_of_tickets,total_price,booked_at
+                1,2,Aymane,"El ""Maini"", Jr",a@evento.test,APPROVED,3,30.00,2025-03-01T10:15:30Z
+                """);
+    }
+
+    @Test
+    void givenNdjson_whenWrite_thenEachAttendeeIsOneLine() {
+        var out = new ByteArrayOutputStream();
+
+        sut.write(Stream.of(ATTENDEE, ATTENDEE), ExportFormat.NDJSON, out);
+
+        var lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"bookingId\":1,\"userId\":2,").contains("\"email\":\"a@evento.test\"");
+    }
+}
@@ -0,0 +1,53 @@
+package com.aymanetech.event.booking.application.hold;
+
+import com.aymanetech.event.booking.domain.BookingId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HoldExpiryWheelTest {
+
+    private final HoldExpiryWheel sut = new HoldExpiryWheel(
+            new HoldProperties(Duration.ofMinutes(10), Duration.ofSeconds(1), 8));
+
+    @Test
+    void givenHold_whenDeadlineNotReached_thenNothingExpires() {
+        var now = Instant.now();
+        sut.schedule(BookingId.of(1L), now.plusSeconds(5));
+
+        assertThat(sut.advance(now.plusSeconds(3))).isEmpty();
+        assertThat(sut.activeHolds()).isEqualTo(1);
+    }
+
+    @Test
+    void givenHold_whenDeadlinePassed_thenItExpiresOnce() {
+        var now = Instant.now();
+        sut.schedule(BookingId.of(1L), now.plusSeconds(5));
+
+        assertThat(sut.advance(now.plusSeconds(6))).containsExactly(BookingId.of(1L));
+        assertThat(sut.advance(now.plusSeconds(20))).isEmpty();
+        assertThat(sut.activeHolds()).isZero();
+    }
+
+    @Test
+    void givenHoldBeyondOneRevolution_whenWheelWrapsAround_thenItWaitsForItsDeadline() {
+        var now = Instant.now();
+        sut.schedule(BookingId.of(1L), now.plusSeconds(20));
+
+        assertThat(sut.advance(now.plusSeconds(13))).isEmpty();
+        assertThat(sut.advance(now.plusSeconds(21))).containsExactly(BookingId.of(1L));
+    }
+
+    @Test
+    void givenCancelledHold_whenDeadlinePassed_thenItDoesNotExpire() {
+        var now = Instant.now();
+        sut.schedule(BookingId.of(1L), now.plusSeconds(2));
+        sut.cancel(BookingId.of(1L));
+
+        assertThat(sut.advance(now.plusSeconds(5))).isEmpty();
+        assertThat(sut.activeHolds()).isZero();
+    }
+}
@@ -0,0 +1,137 @@
+package com.aymanetech.event.booking.application.idempotency;
+
+import com.aymanetech.event.booking.application.dto.BookingRequestDto;
+import com.aymanetech.event.booking.application.dto.BookingResponseDto;
+import com.aymanetech.event.booking.application.service.BookingService;
+import com.aymanetech.event.booking.domain.BookingStatus;
+import com.aymanetech.event.booking.domain.IdempotencyKey;
+import com.aymanetech.event.booking.domain.IdempotencyRecord;
+import com.aymanetech.event.booking.domain.IdempotencyRecordRepository;
+import com.aymanetech.event.common.exception.BusinessValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(SpringExtension.class)
+class IdempotentBookingHandlerTest {
+
+    private static final String KEY = "4f1c2a";
+    private static final BookingRequestDto REQUEST = new BookingRequestDto(1L, 1, 2);
+    private static final BookingResponseDto RESPONSE = new BookingResponseDto(
+            7L, null, null, BookingStatus.APPROVED, 2, BigDecimal.TEN, LocalDateTime.of(2025, 1, 1, 10, 0), null);
+
+    @Mock
+    private BookingService bookingService;
+    @Mock
+    private IdempotencyRecordRepository repository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private IdempotentBookingHandler sut;
+
+    @BeforeEach
+    void setUp() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        sut = new IdempotentBookingHandler(bookingService, repository, transactionTemplate, objectMapper,
+                new IdempotencyProperties(100, Duration.ofMinutes(10), Duration.ofDays(1), "0 0 * * * *"));
+    }
+
+    @Test
+    void givenNewKey_whenRetried_thenBookingIsCreatedOnce() throws Exception {
+        given(repository.claim(1, KEY, "1:1:2")).willReturn(1);
+        given(bookingService.createBooking(REQUEST)).willReturn(RESPONSE);
+
+        var first = sut.createBooking(KEY, REQUEST);
+        var replay = sut.createBooking(KEY, REQUEST);
+
+        assertThat(replay).isEqualTo(first).isEqualTo(RESPONSE);
+        verify(bookingService, times(1)).createBooking(REQUEST);
+        verify(repository).storeResponse(1, KEY, objectMapper.writeValueAsString(RESPONSE));
+    }
+
+    @Test
+    void givenKeyUsedByAnotherNode_whenCreateBooking_thenStoredResponseIsReplayed() throws Exception {
+        given(repository.claim(1, KEY, "1:1:2")).willReturn(0);
+        given(repository.findById(IdempotencyKey.of(1, KEY))).willReturn(Optional.of(new IdempotencyRecord()
+                .setId(IdempotencyKey.of(1, KEY))
+                .setRequestFingerprint("1:1:2")
+                .setResponse(objectMapper.writeValueAsString(RESPONSE))));
+
+        var replay = sut.createBooking(KEY, REQUEST);
+
+        assertThat(replay).isEqualTo(RESPONSE);
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void givenKeyUsedForAnotherRequest_whenCreateBooking_thenItIsRejected() {
+        given(repository.claim(anyInt(), anyString(), anyString())).willReturn(1);
+        given(bookingService.createBooking(REQUEST)).willReturn(RESPONSE);
+        sut.createBooking(KEY, REQUEST);
+
+        assertThatThrownBy(() -> sut.createBooking(KEY, new BookingRequestDto(1L, 1, 3)))
+                .isInstanceOf(BusinessValidationException.class);
+    }
+
+    @Test
+    void givenKeyUsedByAnotherUser_whenCreateBooking_thenEachUserGetsTheirOwnBooking() {
+        var otherRequest = new BookingRequestDto(1L, 2, 2);
+        var otherResponse = new BookingResponseDto(
+                8L, null, null, BookingStatus.APPROVED, 2, BigDecimal.TEN, LocalDateTime.of(2025, 1, 1, 10, 0), null);
+        given(repository.claim(anyInt(), anyString(), anyString())).willReturn(1);
+        given(bookingService.createBooking(REQUEST)).willReturn(RESPONSE);
+        given(bookingService.createBooking(otherRequest)).willReturn(otherResponse);
+
+        assertThat(sut.createBooking(KEY, REQUEST)).isEqualTo(RESPONSE);
+        assertThat(sut.createBooking(KEY, otherRequest)).isEqualTo(otherResponse);
+
+        verify(repository).claim(1, KEY, "1:1:2");
+        verify(repository).claim(2, KEY, "1:2:2");
+    }
+
+    @Test
+    void givenRequestInFlight_whenDuplicateArrives_thenItWaitsForTheFirstOutcome() throws Exception {
+        var bookingStarted = new CountDownLatch(1);
+        var releaseBooking = new CountDownLatch(1);
+        given(repository.claim(1, KEY, "1:1:2")).willReturn(1);
+        given(bookingService.createBooking(REQUEST)).willAnswer(invocation -> {
+            bookingStarted.countDown();
+            releaseBooking.await();
+            return RESPONSE;
+        });
+
+        var first = CompletableFuture.supplyAsync(() -> sut.createBooking(KEY, REQUEST));
+        assertThat(bookingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        var duplicate = CompletableFuture.supplyAsync(() -> sut.createBooking(KEY, REQUEST));
+        releaseBooking.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(RESPONSE);
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(RESPONSE);
+        verify(bookingService, times(1)).createBooking(REQUEST);
+    }
+}
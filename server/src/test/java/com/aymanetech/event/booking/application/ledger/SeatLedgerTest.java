@@ -0,0 +1,101 @@
+package com.aymanetech.event.booking.application.ledger;
+
+import com.aymanetech.event.booking.domain.BookingRepository;
+import com.aymanetech.event.event.application.service.EventService;
+import com.aymanetech.event.event.domain.entity.Event;
+import com.aymanetech.event.event.domain.vo.BookingType;
+import com.aymanetech.event.event.domain.vo.EventId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SeatLedgerTest {
+    private static final EventId EVENT_ID = EventId.of(1L);
+
+    private final EventService eventService = mock(EventService.class);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final SeatLedger ledger = new SeatLedger(
+            new HotEventProperties(true, Set.of(EVENT_ID.value()), 100, 1000, Duration.ofMillis(200)),
+            eventService,
+            bookingRepository
+    );
+
+    @BeforeEach
+    void setUp() {
+        given(eventService.findEventEntityById(EVENT_ID))
+                .willReturn(new Event().setNumberOfSeats(10).setBookingType(BookingType.AUTOMATIC));
+        given(bookingRepository.sumTicketsByEventIdAndStatusIn(any(), anyCollection())).willReturn(0L);
+        ledger.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void givenReserveInTransaction_whenRolledBack_thenSeatsAreGivenBack() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(ledger.tryReserve(EVENT_ID, 4)).isTrue();
+        assertThat(ledger.remainingSeats(EVENT_ID)).isEqualTo(6);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(ledger.remainingSeats(EVENT_ID)).isEqualTo(10);
+    }
+
+    @Test
+    void givenReserveInTransaction_whenCommitted_thenSeatsStayTaken() {
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.tryReserve(EVENT_ID, 4);
+
+        commit();
+
+        assertThat(ledger.remainingSeats(EVENT_ID)).isEqualTo(6);
+    }
+
+    @Test
+    void givenReleaseInTransaction_whenNotYetCommitted_thenSeatsStayTaken() {
+        ledger.tryReserve(EVENT_ID, 4);
+        TransactionSynchronizationManager.initSynchronization();
+
+        ledger.release(EVENT_ID, 4);
+
+        assertThat(ledger.remainingSeats(EVENT_ID)).isEqualTo(6);
+        commit();
+        assertThat(ledger.remainingSeats(EVENT_ID)).isEqualTo(10);
+    }
+
+    @Test
+    void givenReleaseInTransaction_whenRolledBack_thenSeatsAreNotGivenBack() {
+        ledger.tryReserve(EVENT_ID, 4);
+        TransactionSynchronizationManager.initSynchronization();
+
+        ledger.release(EVENT_ID, 4);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(ledger.remainingSeats(EVENT_ID)).isEqualTo(6);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+    }
+}
@@ -0,0 +1,27 @@
+package com.aymanetech.event.booking.application.partition;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingPartitionPropertiesTest {
+
+    @Test
+    void givenDetachAfter_whenComputingHorizon_thenItStartsTheMonthOfTheCutoff() {
+        var properties = new BookingPartitionProperties(12, Period.ofYears(2), "0 0 2 * * *");
+
+        assertThat(properties.detachHorizon(LocalDate.of(2026, 10, 17)))
+                .contains(LocalDateTime.of(2024, 10, 1, 0, 0));
+    }
+
+    @Test
+    void givenNoDetachAfter_whenComputingHorizon_thenThereIsNone() {
+        var properties = new BookingPartitionProperties(12, null, "0 0 2 * * *");
+
+        assertThat(properties.detachHorizon(LocalDate.of(2026, 10, 17))).isEmpty();
+    }
+}
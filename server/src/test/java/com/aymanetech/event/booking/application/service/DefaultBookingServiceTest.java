@@ -0,0 +1,329 @@
+package com.aymanetech.event.booking.application.service;
+
+import com.aymanetech.event.booking.application.dto.BookingRequestDto;
+import com.aymanetech.event.booking.application.dto.BookingTrackingDto;
+import com.aymanetech.event.booking.application.dto.BulkStatusUpdateDto;
+import com.aymanetech.event.booking.application.hold.HoldExpiryWheel;
+import com.aymanetech.event.booking.application.ledger.BookingWriteBehind;
+import com.aymanetech.event.booking.application.ledger.SeatLedger;
+import com.aymanetech.event.booking.application.mapper.BookingMapper;
+import com.aymanetech.event.booking.domain.Booking;
+import com.aymanetech.event.booking.domain.BookingId;
+import com.aymanetech.event.booking.domain.BookingRepository;
+import com.aymanetech.event.booking.domain.BookingStatus;
+import com.aymanetech.event.booking.domain.BookingTickets;
+import com.aymanetech.event.common.exception.BusinessValidationException;
+import com.aymanetech.event.event.application.service.EventService;
+import com.aymanetech.event.event.application.service.SeatInventoryService;
+import com.aymanetech.event.event.domain.entity.Event;
+import com.aymanetech.event.event.domain.vo.BookingType;
+import com.aymanetech.event.event.domain.vo.EventId;
+import com.aymanetech.event.user.application.service.UserService;
+import com.aymanetech.event.user.domain.entity.User;
+import com.aymanetech.event.user.domain.vo.UserId;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(SpringExtension.class)
+class DefaultBookingServiceTest {
+
+    private static final EventId EVENT_ID = EventId.of(1L);
+
+    @Mock
+    private BookingRepository repository;
+    @Mock
+    private BookingMapper mapper;
+    @Mock
+    private EventService eventService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private SeatInventoryService seatInventoryService;
+    @Mock
+    private SeatLedger seatLedger;
+    @Mock
+    private BookingWriteBehind writeBehind;
+    @Mock
+    private HoldExpiryWheel holdExpiryWheel;
+    @Mock
+    private WaitlistService waitlistService;
+    @Mock
+    private BookingStatsService bookingStatsService;
+    @Mock
+    private EntityManager entityManager;
+    @InjectMocks
+    private DefaultBookingService sut;
+
+    @Test
+    void givenAvailableSeats_whenCreateBooking_thenSeatsAreReserved() {
+        var request = new BookingRequestDto(EVENT_ID.value(), 1, 3);
+        var booking = new Booking().setNumberOfTickets(request.numberOfTickets());
+
+        given(eventService.findEventEntityById(EVENT_ID)).willReturn(event());
+        given(userService.findUserEntityById(UserId.of(1))).willReturn(new User());
+        given(mapper.toEntity(request)).willReturn(booking);
+        given(repository.save(booking)).willReturn(booking);
+
+        sut.createBooking(request);
+
+        verify(seatInventoryService).reserveSeats(EVENT_ID, 3);
+        verify(repository).save(booking);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.APPROVED);
+        assertThat(booking.getTotalPrice()).isEqualByComparingTo("30");
+    }
+
+    @Test
+    void givenSoldOutEvent_whenCreateBooking_thenBookingIsNotSaved() {
+        var request = new BookingRequestDto(EVENT_ID.value(), 1, 3);
+
+        given(eventService.findEventEntityById(EVENT_ID)).willReturn(event());
+        willThrow(new IllegalStateException("Not enough seats available"))
+                .given(seatInventoryService).reserveSeats(EVENT_ID, 3);
+
+        assertThatThrownBy(() -> sut.createBooking(request))
+                .isInstanceOf(IllegalStateException.class);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void givenHotEvent_whenCreateBooking_thenBookingIsWrittenBehind() {
+        var request = new BookingRequestDto(EVENT_ID.value(), 1, 3);
+        var booking = new Booking().setNumberOfTickets(request.numberOfTickets());
+
+        given(seatLedger.isHot(EVENT_ID)).willReturn(true);
+        given(seatLedger.findBookingType(EVENT_ID)).willReturn(Optional.of(BookingType.AUTOMATIC));
+        given(seatLedger.tryReserve(EVENT_ID, 3)).willReturn(true);
+        given(writeBehind.enqueue(EVENT_ID, booking)).willReturn(true);
+        given(mapper.toEntity(request)).willReturn(booking);
+
+        sut.createBooking(request);
+
+        verify(writeBehind).enqueue(EVENT_ID, booking);
+        verifyNoInteractions(eventService, seatInventoryService);
+        verify(repository, never()).save(any());
+        assertThat(booking.getReference()).isNotNull();
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.APPROVED);
+    }
+
+    @Test
+    void givenSoldOutHotEvent_whenCreateBooking_thenNothingIsQueued() {
+        var request = new BookingRequestDto(EVENT_ID.value(), 1, 3);
+
+        given(seatLedger.isHot(EVENT_ID)).willReturn(true);
+        given(seatLedger.findBookingType(EVENT_ID)).willReturn(Optional.of(BookingType.AUTOMATIC));
+        given(mapper.toEntity(request)).willReturn(new Booking().setNumberOfTickets(3));
+
+        assertThatThrownBy(() -> sut.createBooking(request))
+                .isInstanceOf(IllegalStateException.class);
+        verify(writeBehind, never()).enqueue(any(), any());
+    }
+
+    @Test
+    void givenQueuedHotBooking_whenTracked_thenItIsReportedQueued() {
+        var reference = UUID.randomUUID();
+        given(writeBehind.isPending(reference)).willReturn(true);
+
+        var tracking = sut.trackBooking(reference);
+
+        assertThat(tracking.state()).isEqualTo(BookingTrackingDto.State.QUEUED);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void givenDroppedHotBooking_whenTracked_thenReasonIsReported() {
+        var reference = UUID.randomUUID();
+        given(repository.findByReference(reference)).willReturn(Optional.empty());
+        given(repository.findDropReason(reference)).willReturn(Optional.of("Not enough seats available"));
+
+        var tracking = sut.trackBooking(reference);
+
+        assertThat(tracking.state()).isEqualTo(BookingTrackingDto.State.DROPPED);
+        assertThat(tracking.reason()).isEqualTo("Not enough seats available");
+    }
+
+    @Test
+    void givenApprovedBooking_whenCancelBooking_thenSeatsAreReleased() {
+        var booking = booking(BookingStatus.APPROVED);
+        given(repository.findByIdForUpdate(booking.getId())).willReturn(Optional.of(booking));
+
+        sut.cancelBooking(booking.getId());
+
+        verify(seatInventoryService).releaseSeats(EVENT_ID, 2);
+        verify(waitlistService).promoteWaitlist(EVENT_ID);
+        verify(bookingStatsService).recordTransition(booking, BookingStatus.APPROVED);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.CANCELLED);
+    }
+
+    @Test
+    void givenPendingBooking_whenRejected_thenWaitlistIsPromoted() {
+        var booking = booking(BookingStatus.PENDING);
+        given(repository.findByIdForUpdate(booking.getId())).willReturn(Optional.of(booking));
+
+        sut.updateBookingStatus(booking.getId(), BookingStatus.REJECTED);
+
+        verify(seatInventoryService).releaseSeats(EVENT_ID, 2);
+        verify(waitlistService).promoteWaitlist(EVENT_ID);
+    }
+
+    @Test
+    void givenRejectedBooking_whenCancelBooking_thenInventoryIsUntouched() {
+        var booking = booking(BookingStatus.REJECTED);
+        given(repository.findByIdForUpdate(booking.getId())).willReturn(Optional.of(booking));
+
+        sut.cancelBooking(booking.getId());
+
+        verifyNoInteractions(seatInventoryService, waitlistService);
+    }
+
+    @Test
+    void givenRejectedBooking_whenApproved_thenSeatsAreReservedAgain() {
+        var booking = booking(BookingStatus.REJECTED);
+        given(repository.findByIdForUpdate(booking.getId())).willReturn(Optional.of(booking));
+
+        sut.updateBookingStatus(booking.getId(), BookingStatus.APPROVED);
+
+        verify(seatInventoryService).reserveSeats(EVENT_ID, 2);
+    }
+
+    @Test
+    void givenHeldBooking_whenConfirmHold_thenBookingIsApprovedAndTimerCancelled() {
+        var booking = booking(BookingStatus.HELD)
+                .setHoldExpiresAt(Instant.now().plusSeconds(60));
+        given(repository.findByIdForUpdate(booking.getId())).willReturn(Optional.of(booking));
+
+        sut.confirmHold(booking.getId());
+
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.APPROVED);
+        verify(holdExpiryWheel).cancel(booking.getId());
+        verifyNoInteractions(seatInventoryService);
+    }
+
+    @Test
+    void givenApprovedBooking_whenStatusSetToHeld_thenRequestIsRejected() {
+        var booking = booking(BookingStatus.APPROVED);
+
+        assertThatThrownBy(() -> sut.updateBookingStatus(booking.getId(), BookingStatus.HELD))
+                .isInstanceOf(BusinessValidationException.class);
+        verify(repository, never()).findByIdForUpdate(any());
+        verifyNoInteractions(seatInventoryService);
+    }
+
+    @Test
+    void givenHoldWithoutExpiry_whenConfirmHold_thenHoldIsTreatedAsExpired() {
+        var booking = booking(BookingStatus.HELD);
+        given(repository.findByIdForUpdate(booking.getId())).willReturn(Optional.of(booking));
+
+        assertThatThrownBy(() -> sut.confirmHold(booking.getId()))
+                .isInstanceOf(BusinessValidationException.class);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.HELD);
+    }
+
+    @Test
+    void givenExpiredHold_whenReleaseExpiredHolds_thenSeatsAreReleased() {
+        var booking = booking(BookingStatus.HELD)
+                .setHoldExpiresAt(Instant.now().minusSeconds(1));
+        given(repository.findByIdForUpdate(booking.getId())).willReturn(Optional.of(booking));
+
+        var released = sut.releaseExpiredHolds(List.of(booking.getId()));
+
+        assertThat(released).isEqualTo(1);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.CANCELLED);
+        verify(seatInventoryService).releaseSeats(EVENT_ID, 2);
+    }
+
+    @Test
+    void givenPendingBookings_whenRejectedInBulk_thenSeatsAreReleasedOncePerEvent() {
+        given(repository.updatePendingStatus(List.of(1L, 2L, 3L), "REJECTED"))
+                .willReturn(List.of(tickets(1L, 1L, 2), tickets(2L, 1L, 3)));
+
+        var result = sut.updateBookingStatuses(new BulkStatusUpdateDto(BookingStatus.REJECTED, List.of(1L, 2L, 3L), null, null));
+
+        assertThat(result.updatedIds()).containsExactly(1L, 2L);
+        assertThat(result.skippedIds()).containsExactly(3L);
+        verify(seatInventoryService).releaseSeats(EVENT_ID, 5);
+        verify(waitlistService).promoteWaitlist(EVENT_ID);
+    }
+
+    @Test
+    void givenLoadedBookings_whenUpdatedInBulk_thenPersistenceContextIsFlushedBeforeAndClearedAfter() {
+        given(repository.updatePendingStatusByEvent(1L, 50, "APPROVED")).willReturn(List.of(tickets(1L, 1L, 2)));
+
+        sut.updateBookingStatuses(new BulkStatusUpdateDto(BookingStatus.APPROVED, null, 1L, 50));
+
+        var inOrder = inOrder(entityManager, repository);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(repository).updatePendingStatusByEvent(1L, 50, "APPROVED");
+        inOrder.verify(entityManager).clear();
+    }
+
+    @Test
+    void givenPendingBookings_whenApprovedInBulk_thenInventoryIsUntouched() {
+        var approved = List.of(tickets(1L, 1L, 2));
+        given(repository.updatePendingStatusByEvent(1L, 50, "APPROVED")).willReturn(approved);
+
+        var result = sut.updateBookingStatuses(new BulkStatusUpdateDto(BookingStatus.APPROVED, null, 1L, 50));
+
+        assertThat(result.updatedIds()).containsExactly(1L);
+        verifyNoInteractions(seatInventoryService, waitlistService);
+        verify(bookingStatsService).recordTransitions(approved, BookingStatus.PENDING, BookingStatus.APPROVED);
+    }
+
+    private static BookingTickets tickets(Long id, Long eventId, Integer numberOfTickets) {
+        return new BookingTickets() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public Integer getNumberOfTickets() {
+                return numberOfTickets;
+            }
+
+            @Override
+            public BigDecimal getTotalPrice() {
+                return BigDecimal.TEN.multiply(BigDecimal.valueOf(numberOfTickets));
+            }
+        };
+    }
+
+    private static Event event() {
+        return new Event()
+                .setId(EVENT_ID)
+                .setPrice(BigDecimal.TEN)
+                .setBookingType(BookingType.AUTOMATIC);
+    }
+
+    private static Booking booking(BookingStatus status) {
+        var booking = new Booking()
+                .setId(BookingId.of(7L))
+                .setNumberOfTickets(2)
+                .setStatus(status);
+        return booking.setEvent(event());
+    }
+}
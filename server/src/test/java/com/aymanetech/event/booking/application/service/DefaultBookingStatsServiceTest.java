@@ -0,0 +1,67 @@
+package com.aymanetech.event.booking.application.service;
+
+import com.aymanetech.event.booking.domain.Booking;
+import com.aymanetech.event.booking.domain.BookingId;
+import com.aymanetech.event.booking.domain.BookingStatus;
+import com.aymanetech.event.booking.domain.EventBookingStatsRepository;
+import com.aymanetech.event.event.domain.entity.Event;
+import com.aymanetech.event.event.domain.vo.EventId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(SpringExtension.class)
+class DefaultBookingStatsServiceTest {
+
+    @Mock
+    private EventBookingStatsRepository repository;
+    @InjectMocks
+    private DefaultBookingStatsService sut;
+
+    @Test
+    void givenNewBookings_whenRecordCreated_thenOneDeltaIsAppliedPerEvent() {
+        sut.recordCreated(List.of(booking(1L, BookingStatus.APPROVED), booking(1L, BookingStatus.PENDING), booking(2L, BookingStatus.APPROVED)));
+
+        verify(repository).applyDelta(1L, 2, new BigDecimal("20"), 1);
+        verify(repository).applyDelta(2L, 2, new BigDecimal("20"), 0);
+    }
+
+    @Test
+    void givenPendingBooking_whenApproved_thenItMovesFromPendingToSold() {
+        var booking = booking(1L, BookingStatus.APPROVED);
+
+        sut.recordTransition(booking, BookingStatus.PENDING);
+
+        verify(repository).applyDelta(1L, 2, new BigDecimal("20"), -1);
+    }
+
+    @Test
+    void givenExpiredHold_whenCancelled_thenStatsAreUntouched() {
+        var booking = booking(1L, BookingStatus.CANCELLED);
+
+        sut.recordTransition(booking, BookingStatus.HELD);
+
+        verify(repository, never()).applyDelta(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    private static Booking booking(Long eventId, BookingStatus status) {
+        var event = new Event()
+                .setId(EventId.of(eventId))
+                .setPrice(BigDecimal.TEN);
+        return new Booking()
+                .setId(BookingId.of(1L))
+                .setNumberOfTickets(2)
+                .setStatus(status)
+                .setEvent(event);
+    }
+}
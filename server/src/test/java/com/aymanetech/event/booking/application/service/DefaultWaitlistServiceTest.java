@@ -0,0 +1,108 @@
+package com.aymanetech.event.booking.application.service;
+
+import com.aymanetech.event.booking.application.dto.BookingRequestDto;
+import com.aymanetech.event.booking.application.ledger.SeatLedger;
+import com.aymanetech.event.booking.domain.BookingRepository;
+import com.aymanetech.event.booking.domain.Waitlist;
+import com.aymanetech.event.booking.domain.WaitlistEntry;
+import com.aymanetech.event.booking.domain.WaitlistEntryRepository;
+import com.aymanetech.event.booking.domain.WaitlistRepository;
+import com.aymanetech.event.common.exception.BusinessValidationException;
+import com.aymanetech.event.event.application.service.EventService;
+import com.aymanetech.event.event.application.service.SeatInventoryService;
+import com.aymanetech.event.event.domain.entity.Event;
+import com.aymanetech.event.event.domain.vo.EventId;
+import com.aymanetech.event.user.application.service.UserService;
+import com.aymanetech.event.user.domain.entity.User;
+import com.aymanetech.event.user.domain.vo.UserId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(SpringExtension.class)
+class DefaultWaitlistServiceTest {
+
+    private static final EventId EVENT_ID = EventId.of(1L);
+    private static final UserId USER_ID = UserId.of(7);
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+    @Mock
+    private WaitlistEntryRepository entryRepository;
+    @Mock
+    private BookingRepository bookingRepository;
+    @Mock
+    private EventService eventService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private SeatInventoryService seatInventoryService;
+    @Mock
+    private SeatLedger seatLedger;
+    @Mock
+    private BookingStatsService bookingStatsService;
+    @InjectMocks
+    private DefaultWaitlistService sut;
+
+    @Test
+    void givenSoldOutEvent_whenJoiningWaitlist_thenUserIsQueued() {
+        givenEvent(1);
+        given(entryRepository.findByEventIdAndUserId(EVENT_ID, USER_ID)).willReturn(Optional.empty());
+
+        var position = sut.joinWaitlist(new BookingRequestDto(EVENT_ID.value(), USER_ID.value(), 2));
+
+        assertThat(position.position()).isEqualTo(1);
+        verify(entryRepository).save(any(WaitlistEntry.class));
+    }
+
+    @Test
+    void givenEnoughSeatsLeft_whenJoiningWaitlist_thenJoinIsRejected() {
+        givenEvent(2);
+
+        assertThatThrownBy(() -> sut.joinWaitlist(new BookingRequestDto(EVENT_ID.value(), USER_ID.value(), 2)))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("book them directly");
+        verify(entryRepository, never()).save(any());
+    }
+
+    @Test
+    void givenHotEventWithSeatsInLedger_whenJoiningWaitlist_thenJoinIsRejected() {
+        givenEvent(0);
+        given(seatLedger.isHot(EVENT_ID)).willReturn(true);
+        given(seatLedger.remainingSeats(EVENT_ID)).willReturn(5);
+
+        assertThatThrownBy(() -> sut.joinWaitlist(new BookingRequestDto(EVENT_ID.value(), USER_ID.value(), 2)))
+                .isInstanceOf(BusinessValidationException.class);
+        verify(entryRepository, never()).save(any());
+    }
+
+    @Test
+    void givenUserAlreadyWaiting_whenJoiningAgain_thenDuplicateIsReported() {
+        givenEvent(0);
+        given(entryRepository.findByEventIdAndUserId(EVENT_ID, USER_ID)).willReturn(Optional.of(new WaitlistEntry()));
+
+        assertThatThrownBy(() -> sut.joinWaitlist(new BookingRequestDto(EVENT_ID.value(), USER_ID.value(), 2)))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("already on the waitlist");
+        verify(entryRepository, never()).save(any());
+    }
+
+    private void givenEvent(int availableSeats) {
+        given(eventService.findEventEntityById(EVENT_ID)).willReturn(new Event().setId(EVENT_ID));
+        given(userService.findUserEntityById(USER_ID)).willReturn(new User().setId(USER_ID));
+        given(seatInventoryService.findAvailableSeats(EVENT_ID)).willReturn(availableSeats);
+        given(waitlistRepository.findByIdForUpdate(EVENT_ID))
+                .willReturn(Optional.of(new Waitlist().setEventId(EVENT_ID).setLastPosition(0L).setPromotedPosition(0L)));
+    }
+}
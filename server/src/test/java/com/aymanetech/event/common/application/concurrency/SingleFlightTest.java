@@ -0,0 +1,113 @@
+package com.aymanetech.event.common.application.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<Long, String> flights = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    void givenConcurrentCallers_whenSameKeyIsLoaded_thenLoaderRunsOnce() throws Exception {
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var results = new ArrayList<Future<String>>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            for (int i = 0; i < CALLERS; i++)
+                results.add(executor.submit(() -> flights.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "event-1";
+                })));
+            awaitCoalesced(CALLERS - 1);
+            release.countDown();
+
+            for (var result : results)
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("event-1");
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("singleflight.executions").tag("name", "test").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("singleflight.coalesced").tag("name", "test").counter().count()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void givenFailingLoad_whenCallersWait_thenAllGetTheException() throws Exception {
+        var release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            var leader = executor.submit(() -> flights.execute(1L, () -> {
+                await(release);
+                throw new IllegalStateException("boom");
+            }));
+            awaitExecutions(1);
+            var waiter = executor.submit(() -> flights.execute(1L, () -> "never"));
+            awaitCoalesced(1);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void givenFinishedLoad_whenCalledAgain_thenLoaderRunsAgain() {
+        flights.execute(1L, () -> "first");
+
+        assertThat(flights.execute(1L, () -> "second")).isEqualTo("second");
+    }
+
+    @Test
+    void givenForgottenKey_whenCalledDuringLoad_thenFreshLoadRuns() throws Exception {
+        var release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            var stale = executor.submit(() -> flights.execute(1L, () -> {
+                await(release);
+                return "before write";
+            }));
+            awaitExecutions(1);
+            flights.forget(1L);
+
+            assertThat(flights.execute(1L, () -> "after write")).isEqualTo("after write");
+            release.countDown();
+            assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("before write");
+        }
+    }
+
+    private void awaitExecutions(int count) throws InterruptedException {
+        awaitCount("singleflight.executions", count);
+    }
+
+    private void awaitCoalesced(int count) throws InterruptedException {
+        awaitCount("singleflight.coalesced", count);
+    }
+
+    private void awaitCount(String meter, int count) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(meter).tag("name", "test").counter().count() < count && System.nanoTime() < deadline)
+            Thread.sleep(5);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
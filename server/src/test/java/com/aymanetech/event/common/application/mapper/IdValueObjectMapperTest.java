@@ -0,0 +1,28 @@
+package com.aymanetech.event.common.application.mapper;
+
+import com.aymanetech.event.event.domain.vo.EventId;
+import com.aymanetech.event.user.domain.vo.UserId;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdValueObjectMapperTest {
+    private final IdValueObjectMapper mapper = new IdValueObjectMapper() {
+    };
+
+    @Test
+    void givenLongBackedId_whenMapped_thenValueIsReturned() {
+        assertThat(mapper.valueObjectToLong(EventId.of(42L))).isEqualTo(42L);
+    }
+
+    @Test
+    void givenIntegerBackedId_whenMapped_thenValueIsWidened() {
+        // used to come out as null: the reflective cast to Long failed and was swallowed
+        assertThat(mapper.valueObjectToLong(UserId.of(7))).isEqualTo(7L);
+    }
+
+    @Test
+    void givenNullId_whenMapped_thenNullIsReturned() {
+        assertThat(mapper.valueObjectToLong(null)).isNull();
+    }
+}
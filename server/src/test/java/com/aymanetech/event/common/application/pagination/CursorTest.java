@@ -0,0 +1,63 @@
+package com.aymanetech.event.common.application.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    @Test
+    void givenCursor_whenEncodedAndDecoded_thenPositionIsKept() {
+        var cursor = new Cursor(Instant.parse("2025-03-01T10:15:30.123456Z"), 42L);
+
+        assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void givenEmptyCursor_whenDecoded_thenListingStartsAtTheTop() {
+        var first = Cursor.decode("");
+
+        assertThat(first.createdAt()).isAfter(Instant.now());
+        assertThat(first.id()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void givenDateCursor_whenEncodedAndDecoded_thenPositionIsKept() {
+        var cursor = new DateCursor(LocalDateTime.parse("2025-06-01T20:30:00"), 42L);
+
+        assertThat(DateCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(DateCursor.decode("").date()).isBefore(LocalDateTime.now());
+    }
+
+    @Test
+    void givenTamperedCursor_whenDecoded_thenItIsRejected() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenExtraRow_whenBuildingPage_thenNextCursorPointsAtLastReturnedRow() {
+        var createdAt = Instant.parse("2025-03-01T10:15:30Z");
+        Function<Long, Cursor> cursorOf = id -> new Cursor(createdAt, id);
+
+        var page = CursorPage.of(List.of(3L, 2L, 1L), 2, cursorOf, String::valueOf);
+
+        assertThat(page.content()).containsExactly("3", "2");
+        assertThat(Cursor.decode(page.nextCursor())).isEqualTo(new Cursor(createdAt, 2L));
+        assertThat(CursorPage.of(List.of(1L), 2, cursorOf, String::valueOf).nextCursor()).isNull();
+    }
+
+    @Test
+    void givenEmptyPageSize_whenBuildingPage_thenItIsRejected() {
+        Function<Long, Cursor> cursorOf = id -> new Cursor(Instant.now(), id);
+
+        assertThatThrownBy(() -> CursorPage.of(List.of(1L), 0, cursorOf, String::valueOf))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,93 @@
+package com.aymanetech.event.common.application.validation;
+
+import com.aymanetech.event.TestcontainersConfiguration;
+import com.aymanetech.event.booking.application.dto.BookingRequestDto;
+import com.aymanetech.event.event.application.dto.request.CategoryRequestDto;
+import com.aymanetech.event.event.application.service.EventService;
+import com.aymanetech.event.event.domain.vo.EventId;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ValidationQueryTest {
+
+    @Autowired
+    private Validator validator;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String categoryName;
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        categoryName = "Validation " + UUID.randomUUID();
+        var organizerId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (first_name, last_name, email, password, role_id, status)
+                VALUES ('Valid', 'Ation', 'validation-' || gen_random_uuid() || '@evento.test', 'secret',
+                        (SELECT id FROM roles WHERE name = 'ROLE_ORGANIZER'), 'ACTIVE')
+                RETURNING id
+                """, Integer.class);
+        var categoryId = jdbcTemplate.queryForObject("""
+                INSERT INTO categories (name, slug, description)
+                VALUES (?, 'validation-' || gen_random_uuid(), 'validation')
+                RETURNING id
+                """, Long.class, categoryName);
+        eventId = jdbcTemplate.queryForObject("""
+                INSERT INTO events (title, slug, description, number_of_seats, available_seats, price, date, location,
+                                    is_verified, booking_type, category_id, organizer_id)
+                VALUES ('Validation', 'validation-' || gen_random_uuid(), 'validation', 100, 100, 10,
+                        now() + interval '1 day', 'Rabat', true, 'MANUAL', ?, ?)
+                RETURNING id
+                """, Long.class, categoryId, organizerId);
+    }
+
+    @Test
+    void givenValidatedReference_whenServiceLoadsIt_thenNoSecondQueryIsIssued() {
+        var statements = transactionTemplate.execute(status -> {
+            statistics.clear();
+            assertThat(validator.validate(new BookingRequestDto(eventId, 1, 1))).isEmpty();
+            eventService.findEventEntityById(EventId.of(eventId));
+            return statistics.getPrepareStatementCount();
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void givenUnknownReference_whenValidated_thenItIsRejected() {
+        assertThat(validator.validate(new BookingRequestDto(Long.MAX_VALUE, 1, 1)))
+                .singleElement()
+                .satisfies(violation -> assertThat(violation.getMessage()).isEqualTo("Event does not exist"));
+    }
+
+    @Test
+    void givenNameTakenInAnotherCase_whenValidated_thenItIsRejected() {
+        assertThat(validator.validate(new CategoryRequestDto(categoryName.toUpperCase(), "description")))
+                .singleElement()
+                .satisfies(violation -> assertThat(violation.getMessage()).isEqualTo("category name already taken"));
+        assertThat(validator.validate(new CategoryRequestDto(categoryName + " bis", "description"))).isEmpty();
+    }
+}
@@ -0,0 +1,118 @@
+package com.aymanetech.event.event;
+
+import com.aymanetech.event.TestcontainersConfiguration;
+import com.aymanetech.event.event.application.dto.request.EventFacetFilter;
+import com.aymanetech.event.event.application.service.EventService;
+import com.aymanetech.event.event.domain.vo.BookingType;
+import com.aymanetech.event.event.domain.vo.DateBucket;
+import com.aymanetech.event.event.domain.vo.PriceBand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class EventFacetCountsTest {
+
+    // runs the database session at least twelve hours away from the JVM, so buckets cut on
+    // the database clock would disagree with the page filter
+    @DynamicPropertySource
+    static void databaseTimeZone(DynamicPropertyRegistry registry) {
+        var jvmOffset = ZoneId.systemDefault().getRules().getOffset(Instant.now()).getTotalSeconds();
+        var databaseZone = jvmOffset >= 0 ? "Etc/GMT+12" : "Etc/GMT-14";
+        registry.add("spring.datasource.hikari.connection-init-sql", () -> "SET TIME ZONE '" + databaseZone + "'");
+    }
+
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long categoryId;
+    private Integer organizerId;
+
+    @BeforeEach
+    void setUp() {
+        organizerId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (first_name, last_name, email, password, role_id, status)
+                VALUES ('Facet', 'Counts', 'facets-' || gen_random_uuid() || '@evento.test', 'secret',
+                        (SELECT id FROM roles WHERE name = 'ROLE_ORGANIZER'), 'ACTIVE')
+                RETURNING id
+                """, Integer.class);
+        categoryId = jdbcTemplate.queryForObject("""
+                INSERT INTO categories (name, slug, description)
+                VALUES ('facets-' || gen_random_uuid(), 'facets-' || gen_random_uuid(), 'facets')
+                RETURNING id
+                """, Long.class);
+        var now = LocalDateTime.now();
+        insertEvent(0, now.minusDays(1), true, BookingType.AUTOMATIC);
+        insertEvent(50, now.plusDays(3), true, BookingType.MANUAL);
+        insertEvent(200, now.plusDays(10), false, BookingType.MANUAL);
+        insertEvent(500, now.plusDays(60), true, BookingType.AUTOMATIC);
+    }
+
+    @Test
+    void givenFilters_whenBrowsing_thenEachFacetIsCountedWithoutItsOwnFilter() {
+        var filter = new EventFacetFilter(categoryId, null, null, null, true);
+
+        var result = eventService.browseEvents(filter, PageRequest.of(0, 10));
+
+        assertThat(result.events().getTotalElements()).isEqualTo(3);
+        assertThat(result.facets().priceBands()).containsOnly(
+                entry(PriceBand.FREE, 1L), entry(PriceBand.UP_TO_100, 1L),
+                entry(PriceBand.UP_TO_300, 0L), entry(PriceBand.OVER_300, 1L));
+        assertThat(result.facets().dateBuckets()).containsOnly(
+                entry(DateBucket.PAST, 1L), entry(DateBucket.NEXT_7_DAYS, 1L),
+                entry(DateBucket.NEXT_30_DAYS, 0L), entry(DateBucket.LATER, 1L));
+        assertThat(result.facets().bookingTypes()).containsOnly(
+                entry(BookingType.AUTOMATIC, 2L), entry(BookingType.MANUAL, 1L));
+        // the verified facet ignores its own filter
+        assertThat(result.facets().verified()).containsOnly(entry(true, 3L), entry(false, 1L));
+        assertThat(result.facets().categories()).containsEntry(categoryId, 3L);
+    }
+
+    @Test
+    void givenFacetValue_whenBrowsing_thenEventsMatchIt() {
+        var filter = new EventFacetFilter(categoryId, PriceBand.OVER_300, null, null, null);
+
+        var result = eventService.browseEvents(filter, PageRequest.of(0, 10));
+
+        assertThat(result.events().getContent()).singleElement()
+                .satisfies(event -> assertThat(event.price()).isEqualByComparingTo("500"));
+        assertThat(result.facets().priceBands()).containsEntry(PriceBand.FREE, 1L);
+        assertThat(result.facets().verified()).containsOnly(entry(true, 1L), entry(false, 0L));
+    }
+
+    @Test
+    void givenEventDueShortly_whenBrowsingItsBucket_thenFacetCountMatchesThePage() {
+        insertEvent(50, LocalDateTime.now().plusHours(2), true, BookingType.MANUAL);
+        var filter = new EventFacetFilter(categoryId, null, DateBucket.NEXT_7_DAYS, null, null);
+
+        var result = eventService.browseEvents(filter, PageRequest.of(0, 10));
+
+        assertThat(result.events().getTotalElements()).isEqualTo(2);
+        assertThat(result.facets().dateBuckets()).containsEntry(DateBucket.NEXT_7_DAYS, 2L);
+    }
+
+    private void insertEvent(int price, LocalDateTime date, boolean verified, BookingType bookingType) {
+        jdbcTemplate.update("""
+                INSERT INTO events (title, slug, description, number_of_seats, available_seats, price, date, location,
+                                    is_verified, booking_type, category_id, organizer_id)
+                VALUES ('facets-' || gen_random_uuid(), 'facets-' || gen_random_uuid(), 'facets', 10, 10, ?,
+                        ?, 'Rabat', ?, CAST(? AS booking_type), ?, ?)
+                """, price, date, verified, bookingType.name(), categoryId, organizerId);
+    }
+}
@@ -0,0 +1,68 @@
+package com.aymanetech.event.event;
+
+import com.aymanetech.event.TestcontainersConfiguration;
+import com.aymanetech.event.common.application.service.SlugService;
+import com.aymanetech.event.event.domain.repository.CategoryRepository;
+import com.aymanetech.event.event.domain.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class SlugAllocationTest {
+
+    @Autowired
+    private SlugService slugService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String title;
+    private String base;
+
+    @BeforeEach
+    void setUp() {
+        var unique = UUID.randomUUID().toString().substring(0, 8);
+        title = "Tech Meetup " + unique;
+        base = "tech-meetup-" + unique;
+    }
+
+    @Test
+    void givenDuplicateTitles_whenAllocating_thenSuffixesFollowEachOther() {
+        var allocator = slugService.allocatorFor("categories", categoryRepository);
+
+        var slugs = IntStream.range(0, 4).mapToObj(i -> allocator.allocate(title)).toList();
+
+        assertThat(slugs).containsExactly(base, base + "-1", base + "-2", base + "-3");
+    }
+
+    @Test
+    void givenSuffixTakenOutsideAllocator_whenAllocating_thenItIsSkipped() {
+        jdbcTemplate.update("INSERT INTO categories (name, slug, description) VALUES (?, ?, 'slugs')", title + " 1", base + "-1");
+        var allocator = slugService.allocatorFor("categories", categoryRepository);
+
+        assertThat(allocator.allocate(title)).isEqualTo(base);
+        assertThat(allocator.allocate(title)).isEqualTo(base + "-2");
+    }
+
+    @Test
+    void givenTwoEntities_whenAllocatingSameTitle_thenEachHasItsOwnSlugs() {
+        var categories = slugService.allocatorFor("categories", categoryRepository);
+        var events = slugService.allocatorFor("events", eventRepository);
+
+        assertThat(categories.allocate(title)).isEqualTo(base);
+        assertThat(events.allocate(title)).isEqualTo(base);
+    }
+}
@@ -0,0 +1,89 @@
+package com.aymanetech.event.event.application.cache;
+
+import com.aymanetech.event.event.application.dto.response.EventResponseDto;
+import com.aymanetech.event.event.domain.repository.EventRepository;
+import com.aymanetech.event.event.domain.vo.BookingType;
+import com.aymanetech.event.event.domain.vo.EventId;
+import com.aymanetech.event.user.application.event.UserChangedEvent;
+import com.aymanetech.event.user.domain.vo.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class EventDetailsCacheTest {
+    private static final EventId ID = EventId.of(1L);
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventDetailsCache cache = new EventDetailsCache(new EventCacheProperties(100), eventRepository, meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void givenLoadedEvent_whenReadAgain_thenItIsServedFromCache() {
+        cache.get(ID, () -> load("Jazz"));
+        var event = cache.get(ID, () -> load("Rock"));
+
+        assertThat(event.title()).isEqualTo("Jazz");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "event.details").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givenInvalidationDuringLoad_whenLoadCompletes_thenResultIsNotCached() {
+        cache.get(ID, () -> {
+            cache.invalidate(ID);
+            return load("Jazz");
+        });
+
+        assertThat(cache.get(ID, () -> load("Rock")).title()).isEqualTo("Rock");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void givenWriteInTransaction_whenTransactionCompletes_thenEntryLoadedMeanwhileIsDropped() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.get(ID, () -> load("Jazz"));
+        cache.invalidate(ID);
+        // a concurrent reader still sees the committed row until the writer commits
+        cache.get(ID, () -> load("Jazz"));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(cache.get(ID, () -> load("Rock")).title()).isEqualTo("Rock");
+    }
+
+    @Test
+    void givenOrganizerChange_whenNotified_thenTheirEventsAreDropped() {
+        given(eventRepository.findIdsByOrganiserId(UserId.of(9))).willReturn(List.of(ID.value()));
+        cache.get(ID, () -> load("Jazz"));
+
+        cache.onUserChanged(new UserChangedEvent(UserId.of(9)));
+
+        assertThat(cache.get(ID, () -> load("Rock")).title()).isEqualTo("Rock");
+    }
+
+    private EventResponseDto load(String title) {
+        loads.incrementAndGet();
+        return new EventResponseDto(ID.value(), title, title.toLowerCase(), "description", 100, BigDecimal.TEN,
+                LocalDateTime.of(2025, 6, 1, 20, 0), "Rabat", null, null, BookingType.MANUAL, null, null, null);
+    }
+}
@@ -0,0 +1,57 @@
+package com.aymanetech.event.event.application.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlugIdCacheTest {
+    private final SlugIdCache cache = new SlugIdCache("test.slugs", 100, new SimpleMeterRegistry());
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void givenResolvedSlug_whenResolvedAgain_thenLoaderIsNotCalled() {
+        cache.resolve("jazz-night", slug -> lookup(7L));
+
+        assertThat(cache.resolve("jazz-night", slug -> lookup(8L))).contains(7L);
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void givenUnknownSlug_whenResolved_thenMissIsNotRemembered() {
+        assertThat(cache.resolve("jazz-night", slug -> lookup(null))).isEmpty();
+
+        assertThat(cache.resolve("jazz-night", slug -> lookup(7L))).contains(7L);
+    }
+
+    @Test
+    void givenReplacedSlug_whenTransactionCompletes_thenEntryLoadedMeanwhileIsDropped() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.resolve("jazz-night", slug -> lookup(7L));
+        cache.evictOnCompletion("jazz-night");
+        // a concurrent reader still sees the old slug until the rename commits
+        cache.resolve("jazz-night", slug -> lookup(7L));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(cache.resolve("jazz-night", slug -> lookup(null))).isEmpty();
+    }
+
+    private Optional<Long> lookup(Long id) {
+        lookups.incrementAndGet();
+        return Optional.ofNullable(id);
+    }
+}
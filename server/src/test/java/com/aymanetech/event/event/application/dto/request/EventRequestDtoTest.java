@@ -0,0 +1,31 @@
+package com.aymanetech.event.event.application.dto.request;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventRequestDtoTest {
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void givenOnlyLatitude_whenValidated_thenCoordinatesAreIncomplete() {
+        assertThat(validator.validateProperty(request(33.57, null), "coordinatesComplete")).hasSize(1);
+        assertThat(validator.validateProperty(request(null, -7.59), "coordinatesComplete")).hasSize(1);
+    }
+
+    @Test
+    void givenBothOrNoCoordinates_whenValidated_thenTheyAreAccepted() {
+        assertThat(validator.validateProperty(request(33.57, -7.59), "coordinatesComplete")).isEmpty();
+        assertThat(validator.validateProperty(request(null, null), "coordinatesComplete")).isEmpty();
+    }
+
+    private static EventRequestDto request(Double latitude, Double longitude) {
+        return new EventRequestDto("Jazz Night", "description", 100, BigDecimal.TEN, LocalDateTime.now().plusDays(1),
+                "Casablanca", latitude, longitude, null, 1L, 1, null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.aymanetech.event.event.application.geo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoBoxTest {
+
+    @Test
+    void givenCircle_whenBoxed_thenBoxJustEnclosesIt() {
+        // Rabat, 100 km
+        var box = GeoBox.around(34.02, -6.84, 100);
+
+        assertThat(box.maxLatitude() - 34.02).isCloseTo(0.8993, within(1e-3));
+        assertThat(box.maxLongitude() + 6.84).isCloseTo(1.0850, within(1e-3));
+        assertThat(box.minLongitude() + 6.84).isCloseTo(-1.0850, within(1e-3));
+    }
+
+    @Test
+    void givenCircleReachingPole_whenBoxed_thenAllLongitudesAreCovered() {
+        var box = GeoBox.around(89.5, 10, 100);
+
+        assertThat(box.maxLatitude()).isEqualTo(90);
+        assertThat(box.minLongitude()).isEqualTo(-180);
+        assertThat(box.maxLongitude()).isEqualTo(180);
+    }
+
+    @Test
+    void givenCircleCrossingAntimeridian_whenBoxed_thenAllLongitudesAreCovered() {
+        var box = GeoBox.around(-17.7, 179.9, 50);
+
+        assertThat(box.minLongitude()).isEqualTo(-180);
+        assertThat(box.maxLongitude()).isEqualTo(180);
+        assertThat(box.minLatitude()).isLessThan(-17.7);
+    }
+}
@@ -0,0 +1,24 @@
+package com.aymanetech.event.event.application.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSearchQueryTest {
+
+    @Test
+    void givenWords_whenConverted_thenEveryWordIsPrefixMatched() {
+        assertThat(EventSearchQuery.toPrefixTsQuery("Jazz Fest")).contains("jazz:* & fest:*");
+    }
+
+    @Test
+    void givenTsQueryOperators_whenConverted_thenTheyAreDropped() {
+        assertThat(EventSearchQuery.toPrefixTsQuery("rock & !roll | 'café':*")).contains("rock:* & roll:* & café:*");
+    }
+
+    @Test
+    void givenNoWords_whenConverted_thenThereIsNothingToSearch() {
+        assertThat(EventSearchQuery.toPrefixTsQuery(" -- ")).isEmpty();
+        assertThat(EventSearchQuery.toPrefixTsQuery(null)).isEmpty();
+    }
+}
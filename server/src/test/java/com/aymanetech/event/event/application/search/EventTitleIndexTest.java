@@ -0,0 +1,45 @@
+package com.aymanetech.event.event.application.search;
+
+import com.aymanetech.event.event.domain.repository.CategoryRepository;
+import com.aymanetech.event.event.domain.repository.EventRepository;
+import com.aymanetech.event.event.domain.vo.EventId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class EventTitleIndexTest {
+    private final EventTitleIndex index = new EventTitleIndex(mock(EventRepository.class), mock(CategoryRepository.class));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void givenWriteInTransaction_whenNotYetCommitted_thenTitleIsNotSearchable() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.indexEvent(EventId.of(1L), "Jazz Night");
+
+        assertThat(index.search("jazz", 5).events()).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(index.search("jazz", 5).events()).hasSize(1);
+    }
+
+    @Test
+    void givenRolledBackWrite_whenSearching_thenTitleNeverShowsUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.indexEvent(EventId.of(1L), "Jazz Night");
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(index.search("jazz", 5).events()).isEmpty();
+    }
+}
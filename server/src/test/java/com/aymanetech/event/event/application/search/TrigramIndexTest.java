@@ -0,0 +1,56 @@
+package com.aymanetech.event.event.application.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTest {
+    private final TrigramIndex index = new TrigramIndex(0.3);
+
+    @Test
+    void givenMisspelledQuery_whenSearching_thenClosestTitlesComeFirst() {
+        index.put(1, "Jazz Festival Rabat");
+        index.put(2, "Marrakech Food Festival");
+        index.put(3, "Tech Conference");
+
+        var matches = index.search("jaz festivl", 10);
+
+        assertThat(matches).extracting(TrigramIndex.Match::id).containsExactly(1L, 2L);
+        assertThat(matches.getFirst().score()).isGreaterThan(matches.get(1).score());
+    }
+
+    @Test
+    void givenReplacedText_whenSearching_thenOnlyTheNewTextMatches() {
+        index.put(1, "Jazz Festival");
+        index.put(1, "Rock Concert");
+
+        assertThat(index.search("jazz", 10)).isEmpty();
+        assertThat(index.search("rock concert", 10)).extracting(TrigramIndex.Match::text).containsExactly("Rock Concert");
+        assertThat(index.liveSize()).isEqualTo(1);
+    }
+
+    @Test
+    void givenRemovedText_whenSearching_thenItIsGone() {
+        index.put(1, "Jazz Festival");
+        index.put(2, "Jazz Night");
+        index.remove(1);
+
+        assertThat(index.search("jazz", 10)).extracting(TrigramIndex.Match::id).containsExactly(2L);
+    }
+
+    @Test
+    void givenManyMatches_whenSearching_thenOnlyTopKAreReturned() {
+        for (long id = 1; id <= 100; id++)
+            index.put(id, "Festival " + id);
+
+        assertThat(index.search("festival", 5)).hasSize(5);
+    }
+
+    @Test
+    void givenUnrelatedQuery_whenSearching_thenNothingMatches() {
+        index.put(1, "Jazz Festival");
+
+        assertThat(index.search("xyz", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,54 @@
+package com.aymanetech.event.event.application.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionIndexTest {
+    private final SuggestionIndex index = SuggestionIndex.build(List.of(
+            new SuggestionIndex.Entry(SuggestionType.EVENT, 1L, "Jazz Festival", 120),
+            new SuggestionIndex.Entry(SuggestionType.EVENT, 2L, "Jazz Night", 300),
+            new SuggestionIndex.Entry(SuggestionType.CATEGORY, 3L, "Jazz", 50),
+            new SuggestionIndex.Entry(SuggestionType.LOCATION, null, "Tétouan", 80),
+            new SuggestionIndex.Entry(SuggestionType.EVENT, 4L, "Food Festival", 10)));
+
+    @Test
+    void givenPrefix_whenSuggesting_thenHeaviestMatchesComeFirst() {
+        assertThat(index.suggest("ja", 10)).extracting(SuggestionIndex.Entry::text)
+                .containsExactly("Jazz Night", "Jazz Festival", "Jazz");
+    }
+
+    @Test
+    void givenPrefixOfLaterWord_whenSuggesting_thenEntryMatchesOnce() {
+        assertThat(index.suggest("f", 10)).extracting(SuggestionIndex.Entry::text)
+                .containsExactly("Jazz Festival", "Food Festival");
+        assertThat(index.suggest("jazz fe", 10)).extracting(SuggestionIndex.Entry::text)
+                .containsExactly("Jazz Festival");
+    }
+
+    @Test
+    void givenAccentsAndCase_whenSuggesting_thenTheyAreIgnored() {
+        assertThat(index.suggest("TETOU", 10)).extracting(SuggestionIndex.Entry::text).containsExactly("Tétouan");
+    }
+
+    @Test
+    void givenLimit_whenSuggesting_thenOnlyTopNAreReturned() {
+        var entries = new ArrayList<SuggestionIndex.Entry>();
+        for (long id = 0; id < 1000; id++)
+            entries.add(new SuggestionIndex.Entry(SuggestionType.EVENT, id, "Concert " + id, id));
+
+        var suggestions = SuggestionIndex.build(entries).suggest("concert", 3);
+
+        assertThat(suggestions).extracting(SuggestionIndex.Entry::id).containsExactly(999L, 998L, 997L);
+    }
+
+    @Test
+    void givenUnknownOrBlankPrefix_whenSuggesting_thenNothingIsReturned() {
+        assertThat(index.suggest("zz", 10)).isEmpty();
+        assertThat(index.suggest(" ", 10)).isEmpty();
+        assertThat(SuggestionIndex.EMPTY.suggest("ja", 10)).isEmpty();
+    }
+}